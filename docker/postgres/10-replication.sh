@@ -0,0 +1,4 @@
+#!/bin/sh
+# postgres-replica 가 pg_basebackup 과 스트리밍 복제로 붙을 수 있도록 복제 연결을 허용한다
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
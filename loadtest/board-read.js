@@ -0,0 +1,40 @@
+// 게시글 조회 부하 테스트 (k6)
+// 사용법: k6 run -e BASE_URL=http://localhost:8080 -e VUS=500 loadtest/board-read.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '200');
+const DURATION = __ENV.DURATION || '60s';
+
+export const options = {
+    scenarios: {
+        getBoards: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            exec: 'getBoards',
+        },
+        getBoardById: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            exec: 'getBoardById',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(99)', 'max'],
+};
+
+export function getBoards() {
+    const strategy = Math.random() < 0.5 ? 'infinite' : 'pagination';
+    const page = Math.floor(Math.random() * 5);
+    const res = http.get(`${BASE_URL}/api/boards?strategy=${strategy}&page=${page}&size=20`,
+        { tags: { endpoint: 'getBoards' } });
+    check(res, { 'status 200': (r) => r.status === 200 });
+}
+
+export function getBoardById() {
+    const id = 1 + Math.floor(Math.random() * 50);
+    const res = http.get(`${BASE_URL}/api/boards/${id}`, { tags: { endpoint: 'getBoardById' } });
+    check(res, { 'status 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드(기본) 모드와 가상 스레드 모드에서 같은 부하를 걸어 결과를 비교한다.
+# 필요: JDK 21, k6
+# 사용법: ./loadtest/compare-modes.sh [VUS] [DURATION]
+set -euo pipefail
+
+VUS=${1:-500}
+DURATION=${2:-60s}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+RESULT_DIR="$ROOT/build/loadtest"
+
+mkdir -p "$RESULT_DIR"
+"$ROOT/gradlew" -p "$ROOT" bootJar -x test
+JAR=$(ls "$ROOT"/build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+
+run_mode() {
+    local mode=$1
+    local profiles=$2
+
+    echo "=== $mode (profiles: ${profiles:-default})"
+    java -Djdk.tracePinnedThreads=short -jar "$JAR" --spring.profiles.active="$profiles" \
+        > "$RESULT_DIR/$mode-app.log" 2>&1 &
+    local pid=$!
+    until curl -sf http://localhost:8080/api/boards/count > /dev/null; do sleep 1; done
+
+    k6 run -q -e VUS="$VUS" -e DURATION="$DURATION" \
+        --summary-export "$RESULT_DIR/$mode-summary.json" "$ROOT/loadtest/board-read.js"
+
+    kill "$pid"
+    wait "$pid" || true
+    grep -c "Thread.*pinned" "$RESULT_DIR/$mode-app.log" | xargs echo "pinned thread reports:"
+}
+
+run_mode platform ""
+run_mode virtual virtual
+
+echo "결과: $RESULT_DIR/{platform,virtual}-summary.json (http_req_duration p(99), iterations)"
@@ -0,0 +1,99 @@
+package kr.penta.assignment.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import kr.penta.assignment.PentaSecurityAssignmentApplication;
+import kr.penta.assignment.board.cache.BoardWatermark;
+import kr.penta.assignment.board.cache.HotFeed;
+import kr.penta.assignment.board.service.BoardCountService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ * <p>
+ * H2 인메모리 DB 로 컨텍스트를 띄우고 (요청 경로 전체를 재는 경우에만 임의 포트의 웹 서버도 띄운다), SYSTEM_RANGE 로 지정한 건수만큼 게시글을 한 번에 적재한다. 측정 대상이
+ * DB 조회 경로가 되도록 샘플 데이터, 목록 캐시, 최신 게시글 버퍼를 끄고 SQL 로그도 끈다.
+ * <p>
+ * 설정은 application.yml 보다 우선하도록 명령행 인자로 넘긴다 (SpringApplicationBuilder.properties 는 가장 낮은 우선순위의
+ * 기본값이라 yml 에 가려진다). 적재는 JDBC 로 직접 하므로 끝난 뒤 게시글 수, 목록 기준점, 최신 게시글 버퍼를 DB 기준으로
+ * 다시 맞춘다.
+ */
+final class BoardBenchmarkContext {
+
+    private BoardBenchmarkContext() {
+    }
+
+    /**
+     * @param rows            적재할 게시글 수
+     * @param extraProperties 기본 설정을 덮어쓸 "key=value" 목록
+     */
+    static ConfigurableApplicationContext start(int rows, String... extraProperties) {
+        return start(WebApplicationType.NONE, rows, extraProperties);
+    }
+
+    /**
+     * 임의 포트의 웹 서버까지 띄운 컨텍스트 (포트는 {@link #serverPort} 로 얻는다)
+     *
+     * @param rows            적재할 게시글 수
+     * @param extraProperties 기본 설정을 덮어쓸 "key=value" 목록
+     */
+    static ConfigurableApplicationContext startServer(int rows, String... extraProperties) {
+        return start(WebApplicationType.SERVLET, rows, extraProperties);
+    }
+
+    static int serverPort(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType webApplicationType, int rows,
+            String... extraProperties) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:bench-" + rows + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.orm.jdbc.bind", "WARN");
+        properties.put("board.sample-data.enabled", "false");
+        properties.put("board.cache.page.enabled", "false");
+        properties.put("board.hot-feed.capacity", "0");
+        properties.put("server.port", "0");
+        for (String property : extraProperties) {
+            int separator = property.indexOf('=');
+            properties.put(property.substring(0, separator), property.substring(separator + 1));
+        }
+        // 같은 키를 두 번 넘기면 값이 쉼표로 이어지므로 키마다 한 번만 넘긴다
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PentaSecurityAssignmentApplication.class)
+                .web(webApplicationType)
+                .run(args);
+        seed(context.getBean(JdbcTemplate.class), rows);
+        context.getBean(BoardCountService.class).reconcile();
+        context.getBean(BoardWatermark.class).seed();
+        context.getBean(HotFeed.class).refresh();
+        return context;
+    }
+
+    /**
+     * 최신 게시글 버퍼가 비어 있는지 확인 (목록 조회가 DB 까지 가는지 보장)
+     */
+    static void requireEmptyHotFeed(ConfigurableApplicationContext context) {
+        int size = context.getBean(HotFeed.class).size();
+        if (size != 0) {
+            throw new IllegalStateException("최신 게시글 버퍼가 비어 있지 않아 DB 조회를 측정할 수 없습니다: " + size);
+        }
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.update("INSERT INTO BOARD (ID, TITLE, CONTENT, AUTHOR, CREATED_AT) "
+                + "SELECT X, '벤치마크 게시글 ' || X, REPEAT('벤치마크 본문 ', 50), '작성자' || MOD(X, 100), "
+                + "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00') "
+                + "FROM SYSTEM_RANGE(1, ?)", rows);
+    }
+}
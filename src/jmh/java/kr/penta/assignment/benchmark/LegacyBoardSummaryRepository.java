@@ -0,0 +1,36 @@
+package kr.penta.assignment.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.penta.assignment.board.entity.Board;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 생성자 표현식 도입 전의 목록 조회 (인터페이스 프로젝션) 재현용 리포지토리
+ * <p>
+ * 벤치마크 소스셋에만 있고, 애플리케이션 패키지 아래라 벤치마크 실행 시에만 리포지토리 스캔에 잡힌다. 정렬은 현재 쿼리와 같게
+ * 두어 매핑 방식만 다르게 한다.
+ */
+public interface LegacyBoardSummaryRepository extends Repository<Board, Long> {
+
+    @Query("select b.id as id, b.title as title, b.author as author, b.createdAt as createdAt, "
+            + "substring(b.content, 1, :excerptLength) as excerpt "
+            + "from Board b order by b.id desc")
+    List<LegacyBoardSummary> findLatest(@Param("excerptLength") int excerptLength, Pageable pageable);
+
+    interface LegacyBoardSummary {
+
+        Long getId();
+
+        String getTitle();
+
+        String getAuthor();
+
+        LocalDateTime getCreatedAt();
+
+        String getExcerpt();
+    }
+}
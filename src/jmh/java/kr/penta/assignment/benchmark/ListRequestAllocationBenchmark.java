@@ -0,0 +1,102 @@
+package kr.penta.assignment.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import kr.penta.assignment.benchmark.LegacyBoardSummaryRepository.LegacyBoardSummary;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.service.BoardCountService;
+import kr.penta.assignment.board.strategy.LoadStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 목록 요청 하나(리포지토리 → 전략 → JSON 직렬화)의 시간과 할당량
+ * <p>
+ * legacyListRequest 는 이전 경로(Spring Data 인터페이스 프로젝션 프록시 → 빌더로 응답 복사 → 기본 ObjectMapper 가 요청마다
+ * 타입 해석)를, listRequest 는 현재 경로(생성자 표현식 → 페이지네이션 전략 → 미리 만든 ObjectWriter)를 같은 DB 에서 잰다.
+ * 호출당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListRequestAllocationBenchmark {
+
+    private static final int ROWS = 10000;
+    private static final int EXCERPT_LENGTH = 100;
+
+    @Param({"20", "100"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private BoardRepository repository;
+    private LegacyBoardSummaryRepository legacyRepository;
+    private BoardCountService boardCountService;
+    private LoadStrategy pagination;
+    private ObjectWriter listWriter;
+    private ObjectMapper legacyObjectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BoardBenchmarkContext.start(ROWS, "board.list.excerpt-length=" + EXCERPT_LENGTH);
+        BoardBenchmarkContext.requireEmptyHotFeed(context);
+        repository = context.getBean(BoardRepository.class);
+        legacyRepository = context.getBean(LegacyBoardSummaryRepository.class);
+        boardCountService = context.getBean(BoardCountService.class);
+        pagination = context.getBean("paginationStrategy", LoadStrategy.class);
+        listWriter = context.getBean(ObjectMapper.class).writerFor(LoadResult.class);
+        legacyObjectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] legacyListRequest() throws JsonProcessingException {
+        List<LegacyBoardSummary> rows = legacyRepository.findLatest(EXCERPT_LENGTH, PageRequest.of(0, size));
+        List<BoardSummaryResponse> boards = rows.stream()
+                .map(row -> BoardSummaryResponse.builder()
+                        .id(row.getId())
+                        .title(row.getTitle())
+                        .author(row.getAuthor())
+                        .createdAt(row.getCreatedAt())
+                        .excerpt(row.getExcerpt())
+                        .build())
+                .collect(Collectors.toList());
+        long totalElements = boardCountService.getCount();
+        int totalPages = (int) ((totalElements + size - 1) / size);
+        LoadResult result = LoadResult.builder()
+                .boards(boards)
+                .hasNext(totalPages > 1)
+                .hasPrevious(false)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .currentPage(0)
+                .strategy("pagination")
+                .build();
+        return legacyObjectMapper.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public byte[] listRequest() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(pagination.loadBoards(repository, 0, size));
+    }
+}
@@ -0,0 +1,80 @@
+package kr.penta.assignment.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * LoadResult 의 JSON 직렬화 비용
+ * <p>
+ * default 는 Spring Boot 기본 설정과 같은 ObjectMapper 로 매번 타입을 해석해 쓰고, tuned 는 JacksonConfig 와 같은 설정
+ * (Blackbird, 고정 ISO 날짜 직렬화기)에 미리 만든 ObjectWriter 를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoadResultSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    @Param({"default", "tuned"})
+    public String mapper;
+
+    private ObjectWriter writer;
+    private LoadResult result;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("tuned".equals(mapper)) {
+            builder.modulesToInstall(new BlackbirdModule())
+                    .serializerByType(LocalDateTime.class,
+                            new LocalDateTimeSerializer(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+        ObjectMapper objectMapper = builder.build();
+        writer = "tuned".equals(mapper) ? objectMapper.writerFor(LoadResult.class) : objectMapper.writer();
+        LocalDateTime now = LocalDateTime.now();
+        List<BoardSummaryResponse> boards = IntStream.range(0, size)
+                .mapToObj(i -> BoardSummaryResponse.builder()
+                        .id((long) i)
+                        .title("벤치마크 게시글 " + i)
+                        .author("작성자" + (i % 10))
+                        .createdAt(now.minusSeconds(i))
+                        .excerpt("벤치마크 본문 ".repeat(10))
+                        .build())
+                .toList();
+        result = LoadResult.builder()
+                .boards(boards)
+                .hasNext(true)
+                .totalElements(1_000_000L)
+                .totalPages(1_000_000 / size)
+                .currentPage(0)
+                .strategy("pagination")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(result);
+    }
+}
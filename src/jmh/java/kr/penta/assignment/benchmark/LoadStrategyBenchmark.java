@@ -0,0 +1,93 @@
+package kr.penta.assignment.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.strategy.BoardCursor;
+import kr.penta.assignment.board.strategy.LoadStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 로딩 전략별 목록 조회 지연 시간
+ * <p>
+ * depthRatio 는 전체 게시글 중 조회 시작 위치의 비율이다. OFFSET 기반 조회는 위치가 깊어질수록 느려지고, 커서 기반 조회는
+ * 위치와 무관하게 일정해야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoadStrategyBenchmark {
+
+    private static final int SIZE = 20;
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    @Param({"0", "0.5", "0.99"})
+    public double depthRatio;
+
+    private ConfigurableApplicationContext context;
+    private BoardRepository repository;
+    private LoadStrategy pagination;
+    private LoadStrategy infinite;
+    private int page;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BoardBenchmarkContext.start(rows);
+        BoardBenchmarkContext.requireEmptyHotFeed(context);
+        repository = context.getBean(BoardRepository.class);
+        pagination = context.getBean("paginationStrategy", LoadStrategy.class);
+        infinite = context.getBean("infiniteStrategy", LoadStrategy.class);
+
+        page = (int) (depthRatio * (rows - SIZE)) / SIZE;
+        cursor = cursorAt(context.getBean(JdbcTemplate.class), page * SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LoadResult pagination() {
+        return pagination.loadBoards(repository, page, SIZE);
+    }
+
+    @Benchmark
+    public LoadResult infiniteOffset() {
+        return infinite.loadBoards(repository, page, SIZE);
+    }
+
+    @Benchmark
+    public LoadResult infiniteCursor() {
+        return infinite.loadBoards(repository, cursor, SIZE);
+    }
+
+    /**
+     * offset 위치 바로 앞 행을 커서로 만든다 (offset 0 이면 첫 페이지 커서).
+     */
+    private static String cursorAt(JdbcTemplate jdbcTemplate, int offset) {
+        if (offset == 0) {
+            return "";
+        }
+        BoardCursor cursor = jdbcTemplate.queryForObject(
+                "SELECT CREATED_AT, ID FROM BOARD ORDER BY CREATED_AT DESC, ID DESC OFFSET ? ROWS FETCH NEXT 1 ROWS ONLY",
+                (rs, rowNum) -> new BoardCursor(rs.getObject(1, LocalDateTime.class), rs.getLong(2)),
+                offset - 1);
+        return cursor.encode();
+    }
+}
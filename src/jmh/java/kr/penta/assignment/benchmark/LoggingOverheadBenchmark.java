@@ -0,0 +1,92 @@
+package kr.penta.assignment.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 로그 설정에 따른 목록 요청 처리량
+ * <p>
+ * 임의 포트로 띄운 서버에 HTTP 로 요청하므로 요청 로그 인터셉터, 컨트롤러, 메시지 컨버터까지 모두 거친다. verbose 는 기존 기본
+ * 설정(모든 요청 로그, show-sql, org.hibernate.SQL DEBUG, 바인드 값 TRACE)을, perf 는 perf 프로필(요청 로그 1% 표본,
+ * 비동기 appender, 느린 쿼리만 기록)을 재현한다. SQL 로그는 표준 출력으로 나가므로 실행 시 출력을 파일로 돌려 두는 것이 좋다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class LoggingOverheadBenchmark {
+
+    private static final int ROWS = 10000;
+    private static final int SIZE = 20;
+
+    @Param({"verbose", "perf"})
+    public String logging;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest pageRequest;
+    private HttpRequest cursorRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] properties = "verbose".equals(logging)
+                ? new String[]{
+                        "logging.level.root=INFO",
+                        "spring.jpa.show-sql=true",
+                        "logging.level.org.hibernate.SQL=DEBUG",
+                        "logging.level.org.hibernate.orm.jdbc.bind=TRACE",
+                        "board.logging.request-sample-rate=1.0",
+                        "board.logging.slow-query.enabled=false"
+                }
+                : new String[]{
+                        "spring.profiles.active=perf",
+                        "logging.level.root=INFO"
+                };
+        context = BoardBenchmarkContext.startServer(ROWS, properties);
+        String baseUrl = "http://localhost:" + BoardBenchmarkContext.serverPort(context) + "/api/boards";
+        client = HttpClient.newHttpClient();
+        pageRequest = HttpRequest.newBuilder(URI.create(baseUrl + "?strategy=pagination&page=0&size=" + SIZE)).build();
+        cursorRequest = HttpRequest.newBuilder(URI.create(baseUrl + "?strategy=infinite&cursor=&size=" + SIZE)).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] getBoardsPage() throws IOException, InterruptedException {
+        return send(pageRequest);
+    }
+
+    @Benchmark
+    public byte[] getBoardsCursor() throws IOException, InterruptedException {
+        return send(cursorRequest);
+    }
+
+    private byte[] send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("목록 요청 실패: " + response.statusCode());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,85 @@
+package kr.penta.assignment.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 응답 표현별 직렬화 CPU 비용
+ * <p>
+ * 요청 하나를 표현(JSON, CBOR, Smile)별로, 그리고 gzip 압축 여부별로 인코딩하는 시간과 할당량을 잰다. 모바일/내부 집계기
+ * 입장에서 표현을 바꾸거나 압축할 때 드는 CPU 를 비교하는 용도다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseEncodingBenchmark {
+
+    @Param({"20", "100"})
+    public int size;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectWriter writer;
+    private LoadResult result;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        ObjectMapper objectMapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+        writer = objectMapper.writerFor(LoadResult.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BoardSummaryResponse> boards = IntStream.range(0, size)
+                .mapToObj(i -> new BoardSummaryResponse((long) i, "벤치마크 게시글 " + i, "작성자" + (i % 10),
+                        now.minusSeconds(i), "벤치마크 본문 ".repeat(10)))
+                .toList();
+        result = LoadResult.builder()
+                .boards(boards)
+                .hasNext(true)
+                .totalElements(1_000_000L)
+                .totalPages(1_000_000 / size)
+                .currentPage(0)
+                .strategy("pagination")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] plain() throws IOException {
+        return writer.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public byte[] gzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            writer.writeValue(out, result);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,181 @@
+package kr.penta.assignment.board.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.CacheStatsResponse;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 상세 조회 read-through 캐시
+ * <p>
+ * 게시글은 생성 이후 변경되지 않으므로 만료 없이 W-TinyLFU(Caffeine) 정책으로만 축출한다. 항목 가중치는 본문 길이에 고정
+ * 오버헤드를 더한 값이라, maximum-weight 가 전체 크기와 최대 항목 수를 함께 제한한다. 존재하지 않는 ID 는 짧은 TTL 의
+ * 네거티브 캐시에 기록해 반복되는 404 요청이 DB 까지 내려가지 않게 한다.
+ * <p>
+ * 로더는 Caffeine 내부의 compute(synchronized) 구간 밖, 호출 스레드에서 실행된다. DB I/O 동안 가상 스레드가 캐리어
+ * 스레드에 고정(pinning)되지 않게 하기 위함이다.
+ */
+@Component
+public class BoardDetailCache {
+
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final AsyncCache<Long, BoardResponse> cache;
+    private final Cache<Long, Boolean> missing;
+    private final LongAdder negativeHits = new LongAdder();
+
+    public BoardDetailCache(
+            @Value("${board.cache.detail.maximum-weight:33554432}") long maximumWeight,
+            @Value("${board.cache.detail.negative-maximum-size:10000}") long negativeMaximumSize,
+            @Value("${board.cache.detail.negative-ttl:PT30S}") Duration negativeTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long id, BoardResponse board) -> weigh(board))
+                .recordStats()
+                .buildAsync();
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(negativeMaximumSize)
+                .expireAfterWrite(negativeTtl)
+                .build();
+    }
+
+    /**
+     * 캐시에서 게시글을 조회하고, 없으면 loader 로 읽어 채운다.
+     * <p>
+     * 같은 ID 에 대한 동시 미스는 한 번의 loader 호출로 합쳐진다.
+     *
+     * @param id     게시글 ID
+     * @param loader 캐시 미스 시 게시글을 읽어 오는 함수
+     * @return 게시글 정보 (존재하지 않으면 empty)
+     */
+    public Optional<BoardResponse> get(Long id, Function<Long, Optional<BoardResponse>> loader) {
+        if (missing.getIfPresent(id) != null) {
+            negativeHits.increment();
+            return Optional.empty();
+        }
+
+        CompletableFuture<BoardResponse> created = new CompletableFuture<>();
+        boolean[] owner = new boolean[1];
+        CompletableFuture<BoardResponse> future = cache.get(id, (key, executor) -> {
+            owner[0] = true;
+            return created;
+        });
+        if (owner[0]) {
+            try {
+                created.complete(loader.apply(id).orElse(null));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        BoardResponse board = join(future);
+        if (board == null) {
+            missing.put(id, Boolean.TRUE);
+        }
+        return Optional.ofNullable(board);
+    }
+
+    /**
+     * 여러 게시글을 한 번에 조회하고, 캐시에 없는 ID 만 모아 loader 로 한 번에 읽어 채운다.
+     * <p>
+     * loader 는 단건 조회와 마찬가지로 호출 스레드에서 실행되며, 결과에 없는 ID 는 네거티브 캐시에 기록된다.
+     *
+     * @param ids    게시글 ID 목록
+     * @param loader 캐시 미스인 ID 집합으로 게시글을 읽어 오는 함수 (존재하는 게시글만 반환)
+     * @return ID 별 게시글 정보 (존재하지 않는 ID 는 포함되지 않음)
+     */
+    public Map<Long, BoardResponse> getAll(Collection<Long> ids, Function<Set<Long>, Map<Long, BoardResponse>> loader) {
+        List<Long> candidates = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (missing.getIfPresent(id) != null) {
+                negativeHits.increment();
+            } else {
+                candidates.add(id);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, BoardResponse> found = join(cache.getAll(candidates,
+                (keys, executor) -> CompletableFuture.completedFuture(loader.apply(Set.copyOf(keys)))));
+        for (Long id : candidates) {
+            if (!found.containsKey(id)) {
+                missing.put(id, Boolean.TRUE);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 게시글을 캐시에 직접 넣는다 (생성 직후 응답 재사용 등)
+     */
+    public void put(BoardResponse board) {
+        missing.invalidate(board.getId());
+        cache.put(board.getId(), CompletableFuture.completedFuture(board));
+    }
+
+    public void invalidate(Long id) {
+        cache.synchronous().invalidate(id);
+        missing.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+        missing.invalidateAll();
+    }
+
+    /**
+     * 새로 생성된 ID 에 대해 남아 있을 수 있는 네거티브 캐시 항목을 제거한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardsCreated(BoardsCreatedEvent event) {
+        event.boards().forEach(board -> missing.invalidate(board.getId()));
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.synchronous().stats();
+        return CacheStatsResponse.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .estimatedSize(cache.synchronous().estimatedSize())
+                .negativeHitCount(negativeHits.sum())
+                .negativeSize(missing.estimatedSize())
+                .build();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private static int weigh(BoardResponse board) {
+        int length = board.getTitle().length() + board.getAuthor().length() + board.getContent().length();
+        return ENTRY_OVERHEAD + length * Character.BYTES;
+    }
+}
@@ -0,0 +1,64 @@
+package kr.penta.assignment.board.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.service.BoardCountService;
+import kr.penta.assignment.board.shard.ShardedBoardStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 목록의 변경 기준점 (최대 게시글 ID + 전체 게시글 수)
+ * <p>
+ * 게시글은 생성만 되므로 목록이 바뀌는 경우는 새 게시글이 커밋될 때뿐이다. 최대 ID 는 먼저 할당되고 늦게 커밋된 게시글을 놓칠 수
+ * 있어 전체 게시글 수를 함께 사용한다. 두 값 모두 DB 조회 없이 메모리에서 얻는다.
+ * <p>
+ * 게시글 수는 {@link BoardCountService} 의 근사 카운터라 재동기화 전까지 인스턴스마다 다를 수 있고, 다른 인스턴스의 커밋은
+ * 최대 ID 에 늦게 반영된다. 그래서 같은 목록에 인스턴스마다 다른 값이 나오거나, 잠시 같은 값에 다른 목록이 나올 수 있으므로
+ * 바이트 단위 동일성을 약속하지 않는 약한 ETag 로만 쓴다. 어긋남은 재동기화 주기(board.count.reconcile-interval) 안으로
+ * 제한된다.
+ */
+@Component
+public class BoardWatermark {
+
+    private final BoardRepository boardRepository;
+    private final BoardCountService boardCountService;
+    private final ObjectProvider<ShardedBoardStore> shardedBoardStore;
+    private final AtomicLong maxId = new AtomicLong();
+
+    public BoardWatermark(BoardRepository boardRepository, BoardCountService boardCountService,
+            ObjectProvider<ShardedBoardStore> shardedBoardStore) {
+        this.boardRepository = boardRepository;
+        this.boardCountService = boardCountService;
+        this.shardedBoardStore = shardedBoardStore;
+    }
+
+    /**
+     * 목록 응답용 약한 ETag
+     *
+     * @return ETag (W/ 와 따옴표 포함)
+     */
+    public String listEtag() {
+        return "W/\"L" + maxId.get() + "." + boardCountService.getCount() + "\"";
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        ShardedBoardStore store = shardedBoardStore.getIfAvailable();
+        long persisted = store != null ? store.findMaxId() : boardRepository.findMaxId();
+        maxId.accumulateAndGet(persisted, Math::max);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardsCreated(BoardsCreatedEvent event) {
+        for (BoardResponse board : event.boards()) {
+            maxId.accumulateAndGet(board.getId(), Math::max);
+        }
+    }
+}
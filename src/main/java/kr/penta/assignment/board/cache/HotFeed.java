@@ -0,0 +1,279 @@
+package kr.penta.assignment.board.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardMapper;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.shard.ShardedBoardStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 최신 게시글 N 건의 요약을 메모리에 들고 있는 링 버퍼
+ * <p>
+ * 조건 없는 최신순 목록의 앞쪽 N 건을 ID 역순으로 보관해, 그 안에 들어오는 페이지와 커서 요청은 DB 를 거치지 않고 응답한다.
+ * 요약은 객체 대신 ID, 작성 시각(epoch 마이크로초), 제목, 작성자(intern), 미리보기의 평행 배열로 담아 슬롯마다 객체 헤더와
+ * LocalDateTime 을 들고 있지 않는다.
+ * <p>
+ * 기동 시와 refresh-interval 마다 DB 의 최신 N 건을 병합하고, 생성 커밋 이벤트마다 제자리에 끼워 넣는다. 커밋 순서가 ID 순서와
+ * 다를 수 있어 새 항목은 정렬 위치를 찾아 넣는다. 쓰기는 StampedLock 쓰기 잠금으로 직렬화하고, 읽기는 낙관적 읽기로 복사한 뒤
+ * 검증해 쓰기와 겹쳤을 때만 읽기 잠금으로 다시 읽는다.
+ * <p>
+ * 다른 인스턴스에서 만든 게시글은 다음 refresh 까지 빠질 수 있다. 요청이 버퍼 밖으로 나가면 비어 있는 결과를 돌려주고 호출
+ * 측이 리포지토리로 조회한다.
+ */
+@Component
+@Slf4j
+public class HotFeed {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private final BoardRepository boardRepository;
+    private final ObjectProvider<ShardedBoardStore> shardedBoardStore;
+    private final int capacity;
+    private final int excerptLength;
+
+    private final long[] ids;
+    private final long[] createdAtMicros;
+    private final String[] titles;
+    private final String[] authors;
+    private final String[] excerpts;
+
+    private final StampedLock lock = new StampedLock();
+
+    // head 는 가장 최신 항목의 물리 위치, complete 는 DB 의 게시글이 모두 버퍼 안에 있는지 (버퍼가 넘친 적이 없는지)
+    private int head;
+    private int size;
+    private boolean complete;
+    private boolean seeded;
+
+    public HotFeed(BoardRepository boardRepository, ObjectProvider<ShardedBoardStore> shardedBoardStore,
+            @Value("${board.hot-feed.capacity:4096}") int capacity,
+            @Value("${board.list.excerpt-length:100}") int excerptLength) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("board.hot-feed.capacity 는 0 이상이어야 합니다: " + capacity);
+        }
+        this.boardRepository = boardRepository;
+        this.shardedBoardStore = shardedBoardStore;
+        this.capacity = capacity;
+        this.excerptLength = excerptLength;
+        this.ids = new long[capacity];
+        this.createdAtMicros = new long[capacity];
+        this.titles = new String[capacity];
+        this.authors = new String[capacity];
+        this.excerpts = new String[capacity];
+    }
+
+    /**
+     * 최신순 목록의 offset 부터 limit 건 (버퍼 밖이면 빈 값)
+     *
+     * @param offset 건너뛸 건수
+     * @param limit  최대 건수
+     * @return 게시글 요약 목록
+     */
+    public Optional<List<BoardSummaryResponse>> latest(long offset, int limit) {
+        long stamp = lock.tryOptimisticRead();
+        List<BoardSummaryResponse> rows = copyFrom(offset, limit);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                rows = copyFrom(offset, limit);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return Optional.ofNullable(rows);
+    }
+
+    /**
+     * 커서 ID 보다 오래된 게시글 limit 건 (버퍼 밖이면 빈 값)
+     *
+     * @param id    커서의 게시글 ID
+     * @param limit 최대 건수
+     * @return 게시글 요약 목록
+     */
+    public Optional<List<BoardSummaryResponse>> latestBefore(long id, int limit) {
+        long stamp = lock.tryOptimisticRead();
+        List<BoardSummaryResponse> rows = copyFrom(positionOf(id), limit);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                rows = copyFrom(positionOf(id), limit);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return Optional.ofNullable(rows);
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * DB 의 최신 N 건을 버퍼에 병합
+     * <p>
+     * 게시글은 생성 이후 바뀌거나 지워지지 않으므로 병합만으로 충분하고, 이미 있는 ID 는 건너뛴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${board.hot-feed.refresh-interval:PT1M}",
+            fixedDelayString = "${board.hot-feed.refresh-interval:PT1M}")
+    public void refresh() {
+        if (capacity == 0) {
+            return;
+        }
+        ShardedBoardStore store = shardedBoardStore.getIfAvailable();
+        PageRequest window = PageRequest.ofSize(capacity);
+        List<BoardSummaryResponse> latest = store != null
+                ? store.findLatest(excerptLength, window)
+                : boardRepository.findLatest(excerptLength, window);
+
+        long stamp = lock.writeLock();
+        try {
+            // 오래된 것부터 넣어야 매번 맨 앞에 붙어 자리 이동이 없다
+            for (int i = latest.size() - 1; i >= 0; i--) {
+                BoardSummaryResponse board = latest.get(i);
+                insert(board.id(), board.createdAt(), board.title(), board.author(), board.excerpt());
+            }
+            if (!seeded) {
+                complete = latest.size() < capacity;
+                seeded = true;
+                log.info("최신 게시글 버퍼 적재 - size: {}, complete: {}", size, complete);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardsCreated(BoardsCreatedEvent event) {
+        if (capacity == 0) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            for (BoardResponse board : event.boards()) {
+                BoardSummaryResponse summary = BoardMapper.toSummary(board, excerptLength);
+                insert(summary.id(), summary.createdAt(), summary.title(), summary.author(), summary.excerpt());
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 논리 위치 offset 부터 limit 건을 복사 (버퍼가 답할 수 없으면 null)
+     * <p>
+     * 낙관적 읽기 중에도 호출되므로 배열 범위를 벗어나지 않는 것 외에는 값의 일관성을 가정하지 않는다.
+     */
+    private List<BoardSummaryResponse> copyFrom(long offset, int limit) {
+        int currentSize = size;
+        if (!seeded || offset < 0 || (offset + limit > currentSize && !complete)) {
+            return null;
+        }
+        int from = (int) Math.min(offset, currentSize);
+        int to = Math.min(from + limit, currentSize);
+        List<BoardSummaryResponse> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            int slot = physical(i);
+            rows.add(new BoardSummaryResponse(ids[slot], titles[slot], authors[slot],
+                    toLocalDateTime(createdAtMicros[slot]), excerpts[slot]));
+        }
+        return rows;
+    }
+
+    /**
+     * id 보다 작은 첫 항목의 논리 위치 (ID 역순 정렬이므로 이진 탐색)
+     */
+    private int positionOf(long id) {
+        int low = 0;
+        int high = Math.min(size, capacity);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ids[physical(mid)] >= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 쓰기 잠금 안에서 ID 역순 위치에 항목 하나를 넣는다. 버퍼가 가득 차 있으면 가장 오래된 항목이 밀려난다.
+     */
+    private void insert(long id, LocalDateTime createdAt, String title, String author, String excerpt) {
+        int position = positionOf(id);
+        if (position > 0 && ids[physical(position - 1)] == id) {
+            return;
+        }
+        if (size == capacity) {
+            complete = false;
+            if (position == size) {
+                return;
+            }
+        }
+
+        if (position == size) {
+            write(physical(size), id, createdAt, title, author, excerpt);
+            size++;
+            return;
+        }
+        // 앞쪽 position 개를 한 칸씩 최신 방향으로 옮기고 빈 자리에 넣는다
+        head = (head - 1 + capacity) % capacity;
+        if (size < capacity) {
+            size++;
+        }
+        for (int i = 0; i < position; i++) {
+            int target = physical(i);
+            int source = physical(i + 1);
+            ids[target] = ids[source];
+            createdAtMicros[target] = createdAtMicros[source];
+            titles[target] = titles[source];
+            authors[target] = authors[source];
+            excerpts[target] = excerpts[source];
+        }
+        write(physical(position), id, createdAt, title, author, excerpt);
+    }
+
+    private void write(int slot, long id, LocalDateTime createdAt, String title, String author, String excerpt) {
+        ids[slot] = id;
+        createdAtMicros[slot] = toEpochMicros(createdAt);
+        titles[slot] = title;
+        authors[slot] = author != null ? author.intern() : null;
+        excerpts[slot] = excerpt;
+    }
+
+    private int physical(int logical) {
+        return (head + logical) % capacity;
+    }
+
+    private static long toEpochMicros(LocalDateTime createdAt) {
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + createdAt.getNano() / 1_000;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMicros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, MICROS_PER_SECOND),
+                (int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * 1_000, ZoneOffset.UTC);
+    }
+}
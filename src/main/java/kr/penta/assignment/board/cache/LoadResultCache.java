@@ -0,0 +1,120 @@
+package kr.penta.assignment.board.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 앞쪽 N 페이지의 목록 조회 결과 캐시
+ * <p>
+ * (전략, 페이지, 크기) 단위로 {@link LoadResult} 를 TTL 과 메모리 예산 안에서 보관한다. 같은 키의 동시 미스는 최초 요청
+ * 스레드 하나만 조회를 수행하고 나머지는 그 결과를 기다린다(single-flight). 새 게시글이 커밋되면 모든 페이지가 한 칸씩
+ * 밀리므로 전체를 무효화한다.
+ */
+@Component
+public class LoadResultCache {
+
+    private static final int RESULT_OVERHEAD = 128;
+    private static final int SUMMARY_OVERHEAD = 96;
+
+    private final boolean enabled;
+    private final int maxPages;
+    private final AsyncCache<Key, LoadResult> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public LoadResultCache(
+            @Value("${board.cache.page.enabled:true}") boolean enabled,
+            @Value("${board.cache.page.max-pages:3}") int maxPages,
+            @Value("${board.cache.page.ttl:PT10S}") Duration ttl,
+            @Value("${board.cache.page.maximum-weight:16777216}") long maximumWeight) {
+        this.enabled = enabled;
+        this.maxPages = maxPages;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maximumWeight)
+                .weigher((Key key, LoadResult result) -> weigh(result))
+                .buildAsync();
+    }
+
+    /**
+     * 해당 페이지가 캐시 대상인지 확인
+     *
+     * @param page 페이지 번호
+     * @return 캐시 대상 여부
+     */
+    public boolean isCacheable(int page) {
+        return enabled && page < maxPages;
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 호출 스레드에서 loader 를 실행해 채운다.
+     * <p>
+     * loader 는 호출 스레드에서 실행되므로 진행 중인 트랜잭션 컨텍스트를 그대로 사용한다.
+     */
+    public LoadResult get(String strategy, String mode, int page, int size, Supplier<LoadResult> loader) {
+        Key key = new Key(strategy, mode, page, size);
+        CompletableFuture<LoadResult> created = new CompletableFuture<>();
+        CompletableFuture<LoadResult> existing = cache.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        long startGeneration = generation.get();
+        try {
+            LoadResult result = loader.get();
+            created.complete(result);
+            if (generation.get() != startGeneration) {
+                cache.asMap().remove(key, created);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.synchronous().invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardsCreated(BoardsCreatedEvent event) {
+        invalidateAll();
+    }
+
+    private static int weigh(LoadResult result) {
+        int weight = RESULT_OVERHEAD;
+        if (result.getBoards() != null) {
+            for (BoardSummaryResponse board : result.getBoards()) {
+                weight += SUMMARY_OVERHEAD + Character.BYTES * (length(board.title())
+                        + length(board.author()) + length(board.excerpt()));
+            }
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record Key(String strategy, String mode, int page, int size) {
+
+    }
+}
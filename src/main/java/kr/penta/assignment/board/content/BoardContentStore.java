@@ -0,0 +1,162 @@
+package kr.penta.assignment.board.content;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 큰 게시글 본문을 DB 밖의 {@link ContentSegmentLog} 에 두는 저장소 (board.content-store.enabled=true 일 때만)
+ * <p>
+ * inline-threshold 자를 넘는 본문만 옮기고, 그 게시글의 CONTENT 컬럼에는 목록 미리보기 길이만큼의 앞부분만 남기며
+ * CONTENT_LENGTH 컬럼에 전체 본문 길이를 적는다. 엔티티와 상세 캐시는 앞부분만 들고 있고, 상세 응답을 만들 때 저장소에서 본문을
+ * 채운다.
+ * <p>
+ * 본문은 행 INSERT 와 같은 트랜잭션 안에서 먼저 기록되므로 커밋된 게시글의 본문은 항상 저장소에 있다. 트랜잭션이 롤백되면 삭제
+ * 표시를 남기고, 그 사이 프로세스가 죽어 남은 본문은 행이 없으므로 조회되지 않는다.
+ * <p>
+ * 세그먼트 파일은 path 의 로컬 디스크에 있으므로 여러 인스턴스가 같은 DB 를 쓰면 path 를 공유 저장소로 두어야 한다. 옮긴 본문을
+ * 저장소에서 찾지 못하면 (다른 인스턴스의 디스크에만 있거나 유실된 경우) 미리보기를 본문으로 내보내지 않고
+ * {@link IllegalStateException} 으로 실패한다.
+ */
+@Slf4j
+public class BoardContentStore implements AutoCloseable {
+
+    private final ContentSegmentLog segmentLog;
+    private final int inlineThreshold;
+    private final int previewLength;
+    private final double compactionGarbageRatio;
+
+    public BoardContentStore(ContentSegmentLog segmentLog, int inlineThreshold, int previewLength,
+            double compactionGarbageRatio) {
+        this.segmentLog = segmentLog;
+        this.inlineThreshold = inlineThreshold;
+        this.previewLength = previewLength;
+        this.compactionGarbageRatio = compactionGarbageRatio;
+    }
+
+    /**
+     * 본문을 저장소로 옮겨야 하는지 여부
+     */
+    public boolean isLarge(String content) {
+        return content != null && content.length() > inlineThreshold;
+    }
+
+    /**
+     * CONTENT 컬럼에 남길 앞부분 (목록 미리보기와 같은 {@link BoardMapper#excerpt} 규칙)
+     */
+    public String preview(String content) {
+        return previewLength <= 0 ? "" : BoardMapper.excerpt(content, previewLength);
+    }
+
+    /**
+     * 본문 하나를 기록 (트랜잭션 안이면 롤백 시 지운다)
+     *
+     * @param id      게시글 ID
+     * @param content 본문
+     */
+    public void put(long id, String content) {
+        segmentLog.put(id, StandardCharsets.UTF_8.encode(content));
+        removeOnRollback(List.of(id));
+    }
+
+    /**
+     * 여러 본문을 기록하고 디스크 동기화는 한 번에 한다 (트랜잭션 안이면 롤백 시 지운다)
+     *
+     * @param boards 저장소로 옮길 게시글 (ID 와 전체 본문)
+     */
+    public void putAll(List<BoardResponse> boards) {
+        if (boards.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(boards.size());
+        List<ByteBuffer> contents = new ArrayList<>(boards.size());
+        for (BoardResponse board : boards) {
+            ids.add(board.getId());
+            contents.add(StandardCharsets.UTF_8.encode(board.getContent()));
+        }
+        segmentLog.putAll(ids, contents);
+        removeOnRollback(ids);
+    }
+
+    /**
+     * 옮긴 본문을 UTF-8 바이트 그대로 조회 (매핑된 파일 구간의 읽기 전용 버퍼)
+     *
+     * @param board 행에서 만든 상세 응답 (contentLength 가 있는 게시글)
+     * @return 본문 바이트
+     * @throws IllegalStateException 저장소에 본문이 없을 때
+     */
+    public ByteBuffer find(BoardResponse board) {
+        return segmentLog.get(board.getId())
+                .orElseThrow(() -> new IllegalStateException("본문 저장소에 게시글 본문이 없습니다 (다른 인스턴스의 "
+                        + "저장소에 있거나 유실됨). ID: " + board.getId()));
+    }
+
+    /**
+     * 본문을 옮긴 게시글이면 저장소의 본문으로 채운 상세 응답을, 아니면 그대로 돌려준다.
+     *
+     * @param board 행에서 만든 상세 응답
+     * @return 전체 본문이 담긴 상세 응답
+     * @throws IllegalStateException 옮긴 본문이 저장소에 없거나 길이가 다를 때
+     */
+    public BoardResponse resolve(BoardResponse board) {
+        if (board.getContentLength() == null) {
+            return board;
+        }
+        String content = StandardCharsets.UTF_8.decode(find(board)).toString();
+        if (content.length() != board.getContentLength()) {
+            throw new IllegalStateException("본문 저장소의 게시글 본문 길이가 다릅니다. ID: " + board.getId()
+                    + ", expected: " + board.getContentLength() + ", actual: " + content.length());
+        }
+        return BoardMapper.withContent(board, content);
+    }
+
+    /**
+     * 본문 저장소를 끈 상태에서 읽은 상세 응답 확인 (본문을 옮긴 게시글이면 미리보기뿐이므로 실패)
+     *
+     * @param board 행에서 만든 상세 응답
+     * @return 그대로의 상세 응답
+     * @throws IllegalStateException 본문을 옮긴 게시글일 때
+     */
+    public static BoardResponse requireInline(BoardResponse board) {
+        if (board.getContentLength() != null) {
+            throw new IllegalStateException("본문 저장소로 옮긴 게시글이지만 본문 저장소가 꺼져 있습니다. ID: "
+                    + board.getId());
+        }
+        return board;
+    }
+
+    @Scheduled(initialDelayString = "${board.content-store.compaction-interval:PT10M}",
+            fixedDelayString = "${board.content-store.compaction-interval:PT10M}")
+    public void compact() {
+        int compacted = segmentLog.compact(compactionGarbageRatio);
+        if (compacted > 0) {
+            log.info("본문 저장소 압축 - segments: {}, remaining: {}", compacted, segmentLog.segmentCount());
+        }
+    }
+
+    @Override
+    public void close() {
+        segmentLog.close();
+    }
+
+    private void removeOnRollback(List<Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    ids.forEach(segmentLog::remove);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,459 @@
+package kr.penta.assignment.board.content;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * long 키의 바이트 레코드를 추가 전용 세그먼트 파일에 쌓는 메모리 매핑 로그
+ * <p>
+ * 레코드는 [magic(4) | 길이(4) | 키(8) | CRC32C(4) | 본문] 형식이고 길이가 -1 이면 삭제 표시(tombstone)다. 세그먼트는
+ * segment-size 크기로 미리 매핑해 두고 가득 차면 다음 번호의 세그먼트를 연다. 키별 위치(세그먼트, 오프셋, 길이)는 메모리 색인에만
+ * 두고 기동 시 세그먼트를 번호 순으로 훑어 다시 만든다. 같은 키는 나중 레코드가 이긴다.
+ * <p>
+ * 체크섬이 맞지 않는 레코드 뒤에 온전한 레코드가 없고 마지막 세그먼트라면 쓰는 도중 종료된 꼬리로 보고 그 위치부터 0 으로
+ * 지운 뒤 이어 쓴다. 그 밖의 손상은 레코드를 잃지 않도록 기동을 멈춘다 (fsync 를 끄면 페이지가 순서 없이 기록되어 이렇게 될 수
+ * 있다). 조회는 매핑된 버퍼의 읽기 전용 구간을 돌려주므로 힙으로 복사하지 않는다. 쓰기와 압축은 ReentrantLock
+ * 으로 직렬화하고, 색인은 ConcurrentHashMap 이라 읽기에는 잠금이 없다.
+ */
+@Slf4j
+public class ContentSegmentLog implements AutoCloseable {
+
+    static final int HEADER_SIZE = 20;
+
+    private static final int MAGIC = 0x42524431;
+    private static final int TOMBSTONE = -1;
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsync;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Long, Location> index = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private Segment active;
+
+    /**
+     * 디렉터리의 세그먼트를 읽어 색인을 복구하고, 마지막 세그먼트를 이어 쓸 세그먼트로 연다.
+     *
+     * @param directory   세그먼트 파일 디렉터리 (없으면 만든다)
+     * @param segmentSize 세그먼트 하나의 크기 (레코드 하나의 최대 크기이기도 하다)
+     * @param fsync       레코드마다 디스크 동기화 여부
+     */
+    public ContentSegmentLog(Path directory, int segmentSize, boolean fsync) {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("세그먼트 크기는 " + HEADER_SIZE + " 바이트보다 커야 합니다: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+            List<Integer> numbers;
+            try (Stream<Path> files = Files.list(directory)) {
+                numbers = files.map(path -> path.getFileName().toString())
+                        .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                        .map(name -> Integer.parseInt(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                        .sorted()
+                        .toList();
+            }
+            for (int i = 0; i < numbers.size(); i++) {
+                Segment segment = openSegment(numbers.get(i));
+                recover(segment, i == numbers.size() - 1);
+                segments.put(segment.number, segment);
+            }
+            active = segments.isEmpty() ? openSegment(1) : segments.lastEntry().getValue();
+            segments.put(active.number, active);
+        } catch (IOException e) {
+            throw new UncheckedIOException("본문 저장소를 열 수 없습니다: " + directory, e);
+        }
+        log.info("본문 저장소 열기 - path: {}, segments: {}, records: {}", directory, segments.size(), index.size());
+    }
+
+    /**
+     * 레코드 하나를 추가 (같은 키가 있으면 대체)
+     *
+     * @param key   키
+     * @param value 본문 (position 부터 limit 까지, 버퍼 위치는 바뀌지 않는다)
+     */
+    public void put(long key, ByteBuffer value) {
+        writeLock.lock();
+        try {
+            Location location = append(key, value);
+            if (fsync) {
+                location.segment.buffer.force(location.offset - HEADER_SIZE, HEADER_SIZE + location.length);
+            }
+            release(index.put(key, location));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 여러 레코드를 추가하고 디스크 동기화는 끝에 세그먼트마다 한 번만 한다.
+     *
+     * @param keys   키 목록
+     * @param values 키와 같은 순서의 본문 목록
+     */
+    public void putAll(List<Long> keys, List<ByteBuffer> values) {
+        if (keys.size() != values.size()) {
+            throw new IllegalArgumentException("키와 본문의 개수가 다릅니다: " + keys.size() + ", " + values.size());
+        }
+        writeLock.lock();
+        try {
+            List<Segment> touched = new ArrayList<>(2);
+            for (int i = 0; i < keys.size(); i++) {
+                Location location = append(keys.get(i), values.get(i));
+                if (touched.isEmpty() || touched.get(touched.size() - 1) != location.segment) {
+                    touched.add(location.segment);
+                }
+                release(index.put(keys.get(i), location));
+            }
+            if (fsync) {
+                touched.forEach(segment -> segment.buffer.force());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 키의 레코드를 지운다 (삭제 표시를 남겨 재기동 후에도 유지)
+     *
+     * @param key 키
+     * @return 지운 레코드가 있었는지 여부
+     */
+    public boolean remove(long key) {
+        writeLock.lock();
+        try {
+            if (!index.containsKey(key)) {
+                return false;
+            }
+            Location tombstone = append(key, null);
+            if (fsync) {
+                tombstone.segment.buffer.force(tombstone.offset - HEADER_SIZE, HEADER_SIZE);
+            }
+            release(index.remove(key));
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 키의 본문을 매핑된 파일의 읽기 전용 구간으로 조회
+     *
+     * @param key 키
+     * @return 본문 (position 0, limit 은 본문 길이)
+     */
+    public Optional<ByteBuffer> get(long key) {
+        Location location = index.get(key);
+        if (location == null) {
+            return Optional.empty();
+        }
+        return Optional.of(location.segment.buffer.slice(location.offset, location.length).asReadOnlyBuffer());
+    }
+
+    public boolean contains(long key) {
+        return index.containsKey(key);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 죽은 레코드(대체되었거나 지워진 본문) 비율이 garbageRatio 이상인 닫힌 세그먼트의 살아 있는 레코드를 이어 쓰는 세그먼트로
+     * 옮기고 파일을 지운다.
+     * <p>
+     * 삭제 표시는 그 키의 더 새 레코드가 없고 더 오래된 세그먼트에 그 키의 본문 레코드가 남아 있을 때만 옮긴다 (버리면 재기동 시
+     * 지운 레코드가 되살아난다). 그 밖의 삭제 표시는 버리므로 압축할 때마다 쌓이지 않는다. 이미 조회로 넘겨준 구간은 매핑이 해제될
+     * 때까지 그대로 읽을 수 있다.
+     *
+     * @param garbageRatio 압축 대상이 되는 죽은 바이트 비율 (0.0 ~ 1.0)
+     * @return 압축한 세그먼트 수
+     */
+    public int compact(double garbageRatio) {
+        int compacted = 0;
+        for (Segment segment : segments.values()) {
+            if (!isCompactable(segment, garbageRatio)) {
+                continue;
+            }
+            int offset = 0;
+            while (offset < segment.position) {
+                int length = segment.buffer.getInt(offset + 4);
+                long key = segment.buffer.getLong(offset + 8);
+                int payloadLength = length == TOMBSTONE ? 0 : length;
+                relocate(segment, offset, key, length);
+                offset += HEADER_SIZE + payloadLength;
+            }
+            writeLock.lock();
+            try {
+                if (!fsync) {
+                    active.buffer.force();
+                }
+                segments.remove(segment.number);
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("압축한 세그먼트를 지울 수 없습니다: " + segment.path, e);
+            } finally {
+                writeLock.unlock();
+            }
+            compacted++;
+        }
+        return compacted;
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (!fsync && active != null) {
+                active.buffer.force();
+            }
+            index.clear();
+            segments.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean isCompactable(Segment segment, double garbageRatio) {
+        writeLock.lock();
+        try {
+            return segment != active && segment.position - segment.liveBytes >= garbageRatio * segment.position;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 압축 중인 세그먼트의 레코드 하나가 아직 살아 있으면 이어 쓰는 세그먼트로 옮긴다.
+     */
+    private void relocate(Segment segment, int offset, long key, int length) {
+        writeLock.lock();
+        try {
+            if (length == TOMBSTONE) {
+                // 색인에 키가 있으면 삭제 표시보다 나중 레코드이므로, 옮기면 재기동 시 그 레코드가 지워진다
+                if (!index.containsKey(key) && hasOlderRecord(segment, key)) {
+                    Location tombstone = append(key, null);
+                    if (fsync) {
+                        tombstone.segment.buffer.force(tombstone.offset - HEADER_SIZE, HEADER_SIZE);
+                    }
+                }
+                return;
+            }
+            Location current = index.get(key);
+            if (current == null || current.segment != segment || current.offset != offset + HEADER_SIZE) {
+                return;
+            }
+            Location moved = append(key, segment.buffer.slice(offset + HEADER_SIZE, length));
+            if (fsync) {
+                moved.segment.buffer.force(moved.offset - HEADER_SIZE, HEADER_SIZE + length);
+            }
+            release(index.put(key, moved));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * segment 보다 오래된 세그먼트에 key 의 본문 레코드(살아 있든 죽었든)가 있는지 여부 (쓰기 잠금 안에서)
+     */
+    private boolean hasOlderRecord(Segment segment, long key) {
+        for (Segment older : segments.headMap(segment.number).values()) {
+            if (older.keys.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 쓰기 잠금 안에서 레코드를 이어 쓰는 세그먼트 끝에 기록한다 (value 가 null 이면 삭제 표시). magic 을 마지막에 써서 끝까지
+     * 쓰이지 않은 레코드는 복구 시 끝으로 취급된다.
+     */
+    private Location append(long key, ByteBuffer value) {
+        int length = value == null ? 0 : value.remaining();
+        int recordSize = HEADER_SIZE + length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("본문이 세그먼트 크기(" + segmentSize + " 바이트)보다 큽니다: " + length);
+        }
+        if (active.buffer.capacity() - active.position < recordSize) {
+            roll();
+        }
+
+        Segment segment = active;
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = segment.position;
+        buffer.putInt(offset + 4, value == null ? TOMBSTONE : length);
+        buffer.putLong(offset + 8, key);
+        if (value != null) {
+            buffer.put(offset + HEADER_SIZE, value, value.position(), length);
+            segment.keys.add(key);
+        }
+        buffer.putInt(offset + 16, checksum(buffer, offset, length));
+        buffer.putInt(offset, MAGIC);
+
+        segment.position = offset + recordSize;
+        segment.liveBytes += length;
+        return new Location(segment, offset + HEADER_SIZE, length);
+    }
+
+    private void roll() {
+        if (fsync) {
+            active.buffer.force();
+        }
+        try {
+            active = openSegment(active.number + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("새 세그먼트를 만들 수 없습니다: " + directory, e);
+        }
+        segments.put(active.number, active);
+    }
+
+    private void release(Location previous) {
+        if (previous != null) {
+            previous.segment.liveBytes -= previous.length;
+        }
+    }
+
+    /**
+     * 세그먼트를 처음부터 훑어 색인에 반영하고 다음에 쓸 위치를 정한다.
+     * <p>
+     * 읽기를 멈춘 위치 뒤에 온전한 레코드(magic 과 체크섬이 맞는)가 남아 있으면 중간이 손상된 것이므로 기동을 멈춘다. 뒤에 온전한
+     * 레코드가 없고 마지막 세그먼트일 때만 쓰는 도중 종료된 꼬리로 보고 0 으로 지운다.
+     *
+     * @throws IllegalStateException 꼬리가 아닌 곳이 손상되었을 때
+     */
+    private void recover(Segment segment, boolean last) {
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        boolean corrupted = false;
+        while (offset + HEADER_SIZE <= buffer.capacity()) {
+            int magic = buffer.getInt(offset);
+            if (magic != MAGIC || !isIntact(buffer, offset)) {
+                corrupted = magic != 0 || buffer.getInt(offset + 4) != 0;
+                break;
+            }
+
+            int length = buffer.getInt(offset + 4);
+            long key = buffer.getLong(offset + 8);
+            if (length == TOMBSTONE) {
+                release(index.remove(key));
+            } else {
+                release(index.put(key, new Location(segment, offset + HEADER_SIZE, length)));
+                segment.liveBytes += length;
+                segment.keys.add(key);
+            }
+            offset += HEADER_SIZE + (length == TOMBSTONE ? 0 : length);
+        }
+        segment.position = offset;
+
+        int next = findIntactRecord(buffer, offset + 1);
+        if (next >= 0) {
+            throw new IllegalStateException("본문 저장소 세그먼트 중간이 손상되었습니다 - segment: " + segment.path
+                    + ", offset: " + offset + ", 다음 레코드: " + next);
+        }
+        if (!corrupted) {
+            return;
+        }
+        if (!last) {
+            throw new IllegalStateException("본문 저장소의 마지막이 아닌 세그먼트 끝이 손상되었습니다 - segment: "
+                    + segment.path + ", offset: " + offset);
+        }
+        log.warn("본문 저장소 세그먼트 꼬리 복구 - segment: {}, offset: {}", segment.path, offset);
+        for (int i = offset; i < buffer.capacity(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+    }
+
+    /**
+     * offset 에 magic 이 있다고 보고 길이와 체크섬이 맞는지 확인
+     */
+    private static boolean isIntact(ByteBuffer buffer, int offset) {
+        int length = buffer.getInt(offset + 4);
+        int payloadLength = length == TOMBSTONE ? 0 : length;
+        return payloadLength >= 0 && payloadLength <= buffer.capacity() - offset - HEADER_SIZE
+                && checksum(buffer, offset, payloadLength) == buffer.getInt(offset + 16);
+    }
+
+    /**
+     * from 이후 처음 나오는 온전한 레코드의 위치 (없으면 -1)
+     */
+    private static int findIntactRecord(ByteBuffer buffer, int from) {
+        for (int offset = from; offset + HEADER_SIZE <= buffer.capacity(); offset++) {
+            if (buffer.getInt(offset) == MAGIC && isIntact(buffer, offset)) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    private Segment openSegment(int number) throws IOException {
+        Path path = directory.resolve(String.format("%010d%s", number, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long size = Math.max(channel.size(), segmentSize);
+            // 매핑은 채널을 닫아도 유지된다
+            return new Segment(number, path, channel.map(MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    /**
+     * 길이, 키, 본문에 대한 CRC32C
+     */
+    private static int checksum(ByteBuffer buffer, int offset, int payloadLength) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + 4, 12));
+        crc.update(buffer.slice(offset + HEADER_SIZE, payloadLength));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 세그먼트 파일 하나 (position, liveBytes, keys 는 쓰기 잠금 안에서만 바뀐다)
+     */
+    private static final class Segment {
+
+        private final int number;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        /** 본문 레코드가 있는 키 (압축 시 삭제 표시를 옮길지 판단) */
+        private final Set<Long> keys = new HashSet<>();
+        private int position;
+        private long liveBytes;
+
+        private Segment(int number, Path path, MappedByteBuffer buffer) {
+            this.number = number;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+
+    private record Location(Segment segment, int offset, int length) {
+    }
+}
@@ -0,0 +1,33 @@
+package kr.penta.assignment.board.content;
+
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 게시글 본문 저장소 설정 (board.content-store.enabled=true 일 때만)
+ * <p>
+ * 미리보기 길이는 목록의 excerpt-length 와 같게 두어, 본문을 옮긴 게시글도 목록 쿼리의 substring 이 그대로 미리보기가 된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.content-store.enabled", havingValue = "true")
+public class ContentStoreConfig {
+
+    @Bean
+    public BoardContentStore boardContentStore(
+            @Value("${board.content-store.path:./data/board-content}") String path,
+            @Value("${board.content-store.segment-size:67108864}") int segmentSize,
+            @Value("${board.content-store.fsync:true}") boolean fsync,
+            @Value("${board.content-store.inline-threshold:4096}") int inlineThreshold,
+            @Value("${board.content-store.compaction-garbage-ratio:0.5}") double compactionGarbageRatio,
+            @Value("${board.list.excerpt-length:100}") int excerptLength) {
+        if (inlineThreshold < excerptLength) {
+            throw new IllegalArgumentException("board.content-store.inline-threshold 는 board.list.excerpt-length("
+                    + excerptLength + ") 이상이어야 합니다: " + inlineThreshold);
+        }
+        ContentSegmentLog segmentLog = new ContentSegmentLog(Path.of(path), segmentSize, fsync);
+        return new BoardContentStore(segmentLog, inlineThreshold, excerptLength, compactionGarbageRatio);
+    }
+}
@@ -6,16 +6,47 @@ import static kr.penta.assignment.board.dto.BoardDto.ErrorResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import kr.penta.assignment.board.dto.BoardDto.BatchGetRequest;
+import kr.penta.assignment.board.dto.BoardDto.BatchGetResult;
 import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BulkInsertResult;
+import kr.penta.assignment.board.dto.BoardDto.CacheStatsResponse;
+import kr.penta.assignment.board.dto.BoardDto.IngestionStatusResponse;
 import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import kr.penta.assignment.board.exception.IngestionQueueFullException;
+import kr.penta.assignment.board.repository.BoardFilter;
+import kr.penta.assignment.board.service.BoardBulkService;
+import kr.penta.assignment.board.service.BoardExportService;
+import kr.penta.assignment.board.service.BoardExportService.ExportFormat;
+import kr.penta.assignment.board.service.BoardIngestionService;
+import kr.penta.assignment.board.service.BoardSearchService;
 import kr.penta.assignment.board.service.BoardService;
+import kr.penta.assignment.board.stream.BoardFeedHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -23,9 +54,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/boards")
@@ -34,7 +69,31 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class BoardController {
 
+    private static final int EXPORT_GZIP_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 목록은 새 게시글이 생기면 바뀌므로 브라우저는 매번 ETag 로 재검증하고, CDN 은 짧게만 보관한다
+     */
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.maxAge(Duration.ZERO)
+            .sMaxAge(Duration.ofSeconds(5))
+            .cachePublic()
+            .mustRevalidate();
+
+    /**
+     * 게시글 상세는 생성 이후 바뀌지 않는다
+     */
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable();
+
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
     private final BoardService boardService;
+    private final BoardBulkService boardBulkService;
+    private final BoardIngestionService boardIngestionService;
+    private final BoardSearchService boardSearchService;
+    private final BoardExportService boardExportService;
+    private final BoardFeedHub boardFeedHub;
 
     /**
      * 게시글 목록 조회 (전략 선택 가능)
@@ -42,39 +101,167 @@ public class BoardController {
      * @param strategy 로딩 전략 (infinite 또는 pagination)
      * @param page     페이지 번호 (0부터 시작)
      * @param size     페이지 크기 (1~100)
-     * @return 게시글 목록과 메타 정보
+     * @param cursor   이전 응답의 nextCursor (지정 시 page 대신 커서 기반 조회, 빈 값이면 첫 페이지)
+     * @param author   작성자 (지정 시 해당 작성자의 게시글만)
+     * @param from     작성 시간 하한 (포함, ISO-8601)
+     * @param to       작성 시간 상한 (미포함, ISO-8601)
+     * @param request  If-None-Match 확인용 요청
+     * @return 게시글 목록과 메타 정보 (목록이 바뀌지 않았으면 304)
      */
     @GetMapping
     public ResponseEntity<LoadResult> getBoards(
             @RequestParam(defaultValue = "infinite") String strategy,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @Size(max = 50) String author,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+            WebRequest request) {
 
-        log.info("게시글 목록 조회 요청 - strategy: {}, page: {}, size: {}", strategy, page, size);
+        log.debug("게시글 목록 조회 요청 - strategy: {}, page: {}, size: {}, cursor: {}, author: {}, from: {}, to: {}",
+                strategy, page, size, cursor, author, from, to);
+        BoardFilter filter = new BoardFilter(author, from, to);
+
+        // 조회 전에 ETag 를 구해야 그 사이 생성된 게시글이 있어도 다음 요청에서 다시 받는다
+        String etag = representationEtag(boardService.getListEtag(), request);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(LIST_CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
 
         try {
-            LoadResult result = boardService.getBoards(strategy, page, size);
-            log.info("게시글 목록 조회 성공 - 조회된 게시글 수: {}", result.getBoards().size());
-            return ResponseEntity.ok(result);
+            LoadResult result = cursor != null
+                    ? boardService.getBoards(strategy, filter, cursor, size)
+                    : boardService.getBoards(strategy, filter, page, size);
+            log.debug("게시글 목록 조회 성공 - 조회된 게시글 수: {}", result.getBoards().size());
+            return ResponseEntity.ok().eTag(etag).cacheControl(LIST_CACHE_CONTROL).varyBy(HttpHeaders.ACCEPT)
+                    .body(result);
         } catch (Exception e) {
             log.error("게시글 목록 조회 중 오류 발생", e);
             throw e;
         }
     }
 
+    /**
+     * 여러 게시글 동시 조회 (GET /api/boards?ids=1,2,3)
+     *
+     * @param ids 게시글 ID 목록 (최대 1000개)
+     * @return 요청 순서대로 정렬된 게시글과 존재하지 않는 ID 목록
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchGetResult> getBoardsByIds(@RequestParam List<Long> ids) {
+        log.debug("게시글 다건 조회 요청 - count: {}", ids.size());
+        return ResponseEntity.ok(boardService.getBoardsByIds(ids));
+    }
+
+    /**
+     * 여러 게시글 동시 조회 (URL 길이 제한을 피하기 위한 본문 방식)
+     *
+     * @param request 게시글 ID 목록 (최대 1000개)
+     * @return 요청 순서대로 정렬된 게시글과 존재하지 않는 ID 목록
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<BatchGetResult> batchGetBoards(@Valid @RequestBody BatchGetRequest request) {
+        log.debug("게시글 다건 조회 요청 - count: {}", request.getIds().size());
+        return ResponseEntity.ok(boardService.getBoardsByIds(request.getIds()));
+    }
+
+    /**
+     * 게시글 검색 (제목, 작성자, 본문)
+     *
+     * @param q    검색어 (모든 단어를 포함하는 게시글을 관련도순으로 반환, 한글은 2글자 이상)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1~100)
+     * @return 검색된 게시글 목록과 메타 정보
+     */
+    @GetMapping("/search")
+    public ResponseEntity<LoadResult> searchBoards(
+            @RequestParam @NotBlank String q,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+        log.debug("게시글 검색 요청 - q: {}, page: {}, size: {}", q, page, size);
+        return ResponseEntity.ok(boardSearchService.search(q, page, size));
+    }
+
+    /**
+     * 게시글 전체 내보내기 (NDJSON 또는 CSV 스트리밍)
+     * <p>
+     * 응답은 DB 커서에서 읽는 대로 전송되며, 끊긴 경우 마지막으로 받은 ID 를 afterId 로 넘겨 이어 받는다.
+     *
+     * @param format  출력 형식 (ndjson 또는 csv)
+     * @param afterId 이 ID 이후의 게시글부터 출력 (처음부터면 0)
+     * @param gzip    gzip 압축 여부
+     * @return 스트리밍 응답
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBoards(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "0") @Min(0) long afterId,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.debug("게시글 내보내기 요청 - format: {}, afterId: {}, gzip: {}", exportFormat, afterId, gzip);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, EXPORT_GZIP_BUFFER_SIZE);
+                boardExportService.export(gzipOut, exportFormat, afterId);
+                gzipOut.finish();
+            } else {
+                boardExportService.export(out, exportFormat, afterId);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(exportFormat.getContentType()),
+                        StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("boards." + exportFormat.getExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * 새 게시글 실시간 구독 (Server-Sent Events)
+     * <p>
+     * 새 게시글이 커밋될 때마다 board 이벤트로 요약을 보낸다. 재연결 시 Last-Event-ID 이후 이벤트를 다시 보내며, 이어 받을 수
+     * 없으면 reset 이벤트를 보내므로 클라이언트는 첫 페이지를 다시 조회하면 된다.
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBoards(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return boardFeedHub.subscribe(lastEventId);
+    }
+
     /**
      * 새로운 게시글 생성
+     * <p>
+     * 비동기 등록 모드(board.ingestion.enabled)에서는 요청을 큐에 적재하고 202 와 추적 토큰을 반환한다.
      *
      * @param request 게시글 생성 요청 데이터
-     * @return 생성된 게시글 정보
+     * @return 생성된 게시글 정보 (비동기 모드에서는 처리 상태)
      */
     @PostMapping
-    public ResponseEntity<BoardResponse> createBoard(@Valid @RequestBody BoardRequest request) {
-        log.info("게시글 생성 요청 - title: {}, author: {}", request.getTitle(), request.getAuthor());
+    public ResponseEntity<?> createBoard(@Valid @RequestBody BoardRequest request) {
+        log.debug("게시글 생성 요청 - title: {}, author: {}", request.getTitle(), request.getAuthor());
+
+        if (boardIngestionService.isEnabled()) {
+            String token = boardIngestionService.submit(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/boards/ingestions/" + token))
+                    .body(boardIngestionService.getStatus(token, Duration.ZERO));
+        }
 
         try {
             BoardResponse response = boardService.createBoard(request);
-            log.info("게시글 생성 성공 - ID: {}", response.getId());
+            log.debug("게시글 생성 성공 - ID: {}", response.getId());
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (Exception e) {
             log.error("게시글 생성 중 오류 발생", e);
@@ -82,25 +269,103 @@ public class BoardController {
         }
     }
 
+    /**
+     * 비동기 등록 요청의 처리 상태 조회
+     *
+     * @param token  등록 시 발급된 추적 토큰
+     * @param waitMs 완료될 때까지 기다릴 최대 시간 (밀리초, 0~30000)
+     * @return 처리 상태
+     */
+    @GetMapping("/ingestions/{token}")
+    public ResponseEntity<IngestionStatusResponse> getIngestionStatus(
+            @PathVariable String token,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(30000) long waitMs) {
+        return ResponseEntity.ok(boardIngestionService.getStatus(token, Duration.ofMillis(waitMs)));
+    }
+
+    /**
+     * 게시글 대량 등록 (JSON 배열)
+     * <p>
+     * 항목별로 검증하며, 실패한 항목은 건너뛰고 결과에 순번과 사유를 포함한다.
+     *
+     * @param requests 게시글 생성 요청 목록
+     * @return 등록 결과
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkInsertResult> bulkCreateBoards(@RequestBody List<BoardRequest> requests) {
+        log.debug("게시글 대량 등록 요청 - count: {}", requests.size());
+        return ResponseEntity.ok(boardBulkService.insertAll(requests));
+    }
+
+    /**
+     * 게시글 대량 등록 (NDJSON 스트리밍)
+     * <p>
+     * 본문을 한 줄씩 읽으면서 청크 단위로 커밋하므로 수십만 건도 일정한 메모리로 처리한다.
+     *
+     * @param body NDJSON 요청 본문
+     * @return 등록 결과
+     */
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkInsertResult> bulkCreateBoardsFromStream(InputStream body) {
+        log.debug("게시글 대량 등록 요청 (NDJSON)");
+        return ResponseEntity.ok(boardBulkService.insertNdjson(body));
+    }
+
     /**
      * 특정 게시글 조회
+     * <p>
+     * If-None-Match 가 일치하면 게시글을 읽지 않고 304 를 반환한다.
      *
-     * @param id 게시글 ID
+     * @param id      게시글 ID
+     * @param request If-None-Match 확인용 요청
      * @return 게시글 정보
      */
     @GetMapping("/{id}")
-    public ResponseEntity<BoardResponse> getBoardById(@PathVariable Long id) {
-        log.info("게시글 상세 조회 요청 - ID: {}", id);
+    public ResponseEntity<BoardResponse> getBoardById(@PathVariable Long id, WebRequest request) {
+        log.debug("게시글 상세 조회 요청 - ID: {}", id);
+
+        String etag = representationEtag(boardService.getDetailEtag(id), request);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(DETAIL_CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
 
         try {
             BoardResponse response = boardService.getBoardById(id);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(etag).cacheControl(DETAIL_CACHE_CONTROL).varyBy(HttpHeaders.ACCEPT)
+                    .body(response);
         } catch (IllegalArgumentException e) {
             log.warn("게시글을 찾을 수 없음 - ID: {}", id);
             throw e;
         }
     }
 
+    /**
+     * 게시글 본문 원문 조회 (text/plain)
+     * <p>
+     * 본문 저장소(board.content-store)로 옮긴 본문은 매핑된 파일 구간을 문자열로 만들지 않고 응답 스트림에 바로 쓴다.
+     *
+     * @param id 게시글 ID
+     * @return 본문
+     */
+    @GetMapping("/{id}/content")
+    public ResponseEntity<StreamingResponseBody> getBoardContent(@PathVariable Long id) {
+        log.debug("게시글 본문 조회 요청 - ID: {}", id);
+
+        ByteBuffer content = boardService.getBoardContent(id);
+        StreamingResponseBody body = out -> {
+            WritableByteChannel channel = Channels.newChannel(out);
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .contentLength(content.remaining())
+                .cacheControl(DETAIL_CACHE_CONTROL)
+                .body(body);
+    }
+
     /**
      * 전체 게시글 수 조회
      *
@@ -112,6 +377,16 @@ public class BoardController {
         return ResponseEntity.ok(count);
     }
 
+    /**
+     * 게시글 상세 캐시 통계 조회
+     *
+     * @return 적중/미스/축출 통계
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getDetailCacheStats() {
+        return ResponseEntity.ok(boardService.getDetailCacheStats());
+    }
+
     /**
      * IllegalArgumentException 처리
      */
@@ -129,6 +404,22 @@ public class BoardController {
         return ResponseEntity.badRequest().body(error);
     }
 
+    /**
+     * 비동기 등록 큐 포화 처리
+     */
+    @ExceptionHandler(IngestionQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleIngestionQueueFullException(IngestionQueueFullException e) {
+        log.warn("게시글 등록 요청 거절: {}", e.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message(e.getMessage())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
+
     /**
      * Validation 예외 처리
      */
@@ -165,4 +456,39 @@ public class BoardController {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
-}
\ No newline at end of file
+
+    /**
+     * 응답 표현(JSON, CBOR, Smile)마다 다른 ETag 를 쓰도록 Accept 에 따라 접미사를 붙인다.
+     * <p>
+     * 같은 URL 이 Accept 에 따라 다른 표현을 돌려주므로 ETag 도 표현별로 달라야 한다. 메시지 변환기 선택과 같은 순서로
+     * Accept 를 훑어 처음 나오는 지원 형식을 고른다.
+     */
+    private static String representationEtag(String etag, WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (etag == null || accept == null || accept.isBlank()) {
+            return etag;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+        } catch (IllegalArgumentException e) {
+            return etag;
+        }
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() <= 0) {
+                continue;
+            }
+            if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+                return etag.substring(0, etag.length() - 1) + "-cbor\"";
+            }
+            if (APPLICATION_SMILE.equalsTypeAndSubtype(mediaType)) {
+                return etag.substring(0, etag.length() - 1) + "-smile\"";
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return etag;
+            }
+        }
+        return etag;
+    }
+}
@@ -1,6 +1,10 @@
 package kr.penta.assignment.board.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,6 +13,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 게시글 API 요청/응답 DTO
+ * <p>
+ * 게시글 ID 는 Snowflake ID 라 2^53 을 넘으므로 JavaScript 에서 숫자로 받으면 반올림된다. 응답에서는 문자열로 내보내고,
+ * 요청에서는 숫자와 문자열을 모두 받는다 (Jackson 의 기본 스칼라 변환).
+ */
 public class BoardDto {
 
     @Builder
@@ -31,13 +41,32 @@ public class BoardDto {
 
     @Getter
     @Builder
+    @AllArgsConstructor
     public static class BoardResponse {
 
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long id;
         private String title;
         private String content;
         private String author;
         private LocalDateTime createdAt;
+
+        /**
+         * 본문 저장소로 옮긴 전체 본문 길이 (content 가 앞부분뿐일 때만 값이 있고 응답에는 나가지 않는다)
+         */
+        @JsonIgnore
+        private Integer contentLength;
+    }
+
+    /**
+     * 목록 조회용 게시글 요약 (본문 전체 대신 미리보기만 포함)
+     * <p>
+     * 목록 쿼리가 JPQL 생성자 표현식으로 바로 만들어 내므로 엔티티나 프로젝션 프록시를 거치지 않는다.
+     */
+    @Builder
+    public record BoardSummaryResponse(@JsonSerialize(using = ToStringSerializer.class) Long id, String title,
+                                       String author, LocalDateTime createdAt, String excerpt) {
+
     }
 
     @Getter
@@ -46,13 +75,93 @@ public class BoardDto {
     @AllArgsConstructor
     public static class LoadResult {
 
-        private List<BoardResponse> boards;
+        private List<BoardSummaryResponse> boards;
         private boolean hasNext;
         private boolean hasPrevious;
         private long totalElements;
         private int totalPages;
         private int currentPage;
         private String strategy;
+        private String nextCursor;
+    }
+
+    /**
+     * 여러 게시글 동시 조회 요청
+     */
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchGetRequest {
+
+        @NotEmpty(message = "조회할 게시글 ID 는 필수입니다")
+        @Size(max = 1000, message = "한 번에 조회할 수 있는 게시글은 1000개를 초과할 수 없습니다")
+        private List<Long> ids;
+    }
+
+    /**
+     * 여러 게시글 동시 조회 결과 (요청 순서 유지, 존재하지 않는 ID 는 missingIds 로 보고)
+     */
+    @Getter
+    @Builder
+    public static class BatchGetResult {
+
+        private List<BoardResponse> boards;
+
+        @JsonSerialize(contentUsing = ToStringSerializer.class)
+        private List<Long> missingIds;
+    }
+
+    /**
+     * 대량 등록 결과 (실패 항목은 요청 내 순번과 사유를 보고)
+     */
+    @Getter
+    @Builder
+    public static class BulkInsertResult {
+
+        private int received;
+        private int inserted;
+        private int failed;
+        private List<BulkItemError> errors;
+    }
+
+    @Getter
+    @Builder
+    public static class BulkItemError {
+
+        private int index;
+        private String message;
+    }
+
+    /**
+     * 비동기 등록 요청의 처리 상태
+     */
+    @Getter
+    @Builder
+    public static class IngestionStatusResponse {
+
+        private String token;
+        private IngestionStatus status;
+        private BoardResponse board;
+        private String message;
+    }
+
+    public enum IngestionStatus {
+        PENDING, COMPLETED, FAILED
+    }
+
+    @Getter
+    @Builder
+    public static class CacheStatsResponse {
+
+        private long hitCount;
+        private long missCount;
+        private double hitRate;
+        private long evictionCount;
+        private long evictionWeight;
+        private long estimatedSize;
+        private long negativeHitCount;
+        private long negativeSize;
     }
 
     @Getter
@@ -0,0 +1,84 @@
+package kr.penta.assignment.board.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.entity.Board;
+
+/**
+ * 게시글 엔티티/응답 간 변환
+ * <p>
+ * 목록 요약은 리포지토리 쿼리가 직접 만들므로 여기서는 엔티티를 거치는 상세 응답과, 이미 만들어진 상세 응답에서 요약을 만드는
+ * 경우(실시간 피드)만 다룬다. 빌더 없이 생성자를 바로 호출한다.
+ * <p>
+ * 본문 미리보기는 {@link #excerpt} 한 가지 규칙(앞에서부터 코드 포인트 N 개)으로 만든다. DB 의 substring 은 H2 가 UTF-16
+ * 단위, PostgreSQL 이 코드 포인트 단위로 세므로 목록 쿼리는 넉넉히 읽고 {@link #withExcerpts} 로 같은 규칙에 맞춰 자른다.
+ */
+public final class BoardMapper {
+
+    private BoardMapper() {
+    }
+
+    public static BoardResponse toResponse(Board board) {
+        return new BoardResponse(board.getId(), board.getTitle(), board.getContent(), board.getAuthor(),
+                board.getCreatedAt(), board.getContentLength());
+    }
+
+    /**
+     * 전체 본문으로 바꾼 상세 응답 (본문 저장소에서 읽은 본문을 채울 때)
+     */
+    public static BoardResponse withContent(BoardResponse board, String content) {
+        return new BoardResponse(board.getId(), board.getTitle(), content, board.getAuthor(), board.getCreatedAt(),
+                null);
+    }
+
+    /**
+     * 상세 응답에서 목록 요약을 만든다.
+     *
+     * @param board         게시글 상세 응답
+     * @param excerptLength 본문 미리보기 길이 (0 이하이면 미리보기 없음)
+     * @return 게시글 요약
+     */
+    public static BoardSummaryResponse toSummary(BoardResponse board, int excerptLength) {
+        return new BoardSummaryResponse(board.getId(), board.getTitle(), board.getAuthor(), board.getCreatedAt(),
+                excerpt(board.getContent(), excerptLength));
+    }
+
+    /**
+     * 본문 미리보기 (앞에서부터 코드 포인트 excerptLength 개, 서로게이트 쌍을 가르지 않는다)
+     *
+     * @param content       본문 (또는 본문의 앞부분)
+     * @param excerptLength 미리보기 길이 (0 이하이면 미리보기 없음)
+     * @return 미리보기 (본문이 짧으면 본문 그대로, 본문이 null 이거나 길이가 0 이하이면 null)
+     */
+    public static String excerpt(String content, int excerptLength) {
+        if (excerptLength <= 0 || content == null) {
+            return null;
+        }
+        if (content.length() <= excerptLength || content.codePointCount(0, content.length()) <= excerptLength) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, excerptLength));
+    }
+
+    /**
+     * DB 에서 excerptLength 의 두 배(UTF-16 단위로 읽어도 코드 포인트 excerptLength 개 이상)를 읽은 미리보기를
+     * {@link #excerpt} 규칙으로 자른다. 자를 것이 없으면 받은 목록을 그대로 돌려준다.
+     */
+    public static List<BoardSummaryResponse> withExcerpts(List<BoardSummaryResponse> summaries, int excerptLength) {
+        List<BoardSummaryResponse> result = summaries;
+        for (int i = 0; i < summaries.size(); i++) {
+            BoardSummaryResponse summary = summaries.get(i);
+            String excerpt = excerpt(summary.excerpt(), excerptLength);
+            if (excerpt != summary.excerpt()) {
+                if (result == summaries) {
+                    result = new ArrayList<>(summaries);
+                }
+                result.set(i, new BoardSummaryResponse(summary.id(), summary.title(), summary.author(),
+                        summary.createdAt(), excerpt));
+            }
+        }
+        return result;
+    }
+}
@@ -2,13 +2,13 @@ package kr.penta.assignment.board.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import kr.penta.assignment.common.id.SnowflakeId;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,11 +22,15 @@ import org.hibernate.annotations.CreationTimestamp;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "BOARD")
+@Table(name = "BOARD", indexes = {
+        @Index(name = "IDX_BOARD_CREATED_AT_ID", columnList = "CREATED_AT DESC, ID DESC"),
+        @Index(name = "IDX_BOARD_AUTHOR_CREATED_AT_ID", columnList = "AUTHOR, CREATED_AT DESC, ID DESC")
+})
 public class Board {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
+    @Comment("게시글 ID (timestamp + node + sequence)")
     private Long id;
 
     @NotNull
@@ -40,6 +44,9 @@ public class Board {
     @Comment("게시글 내용")
     private String content;
 
+    @Column(name = "CONTENT_LENGTH")
+    @Comment("본문 저장소로 옮긴 전체 본문 길이 (옮기지 않았으면 NULL)")
+    private Integer contentLength;
 
     @NotNull
     @Size(max = 50)
@@ -0,0 +1,18 @@
+package kr.penta.assignment.board.event;
+
+import java.util.List;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+
+/**
+ * 게시글 생성 이벤트
+ * <p>
+ * 생성 트랜잭션 안에서 발행되며, 구독자는 커밋 이후(AFTER_COMMIT)에만 반영해야 한다.
+ *
+ * @param boards 생성된 게시글 목록
+ */
+public record BoardsCreatedEvent(List<BoardResponse> boards) {
+
+    public static BoardsCreatedEvent of(BoardResponse board) {
+        return new BoardsCreatedEvent(List.of(board));
+    }
+}
@@ -0,0 +1,11 @@
+package kr.penta.assignment.board.exception;
+
+/**
+ * 비동기 등록 큐가 가득 차 요청을 받을 수 없을 때 발생 (429 로 응답)
+ */
+public class IngestionQueueFullException extends RuntimeException {
+
+    public IngestionQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,91 @@
+package kr.penta.assignment.board.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 목록/생성 지표
+ * <p>
+ * 타이머는 p50/p99/p999 를 애플리케이션에서 계산해 내보내고, Prometheus 에서 구간 합산이 가능하도록 히스토그램 버킷도 함께
+ * 내보낸다. 페이지 깊이와 크기는 고정 버킷(SLO)에 누적해 어떤 전략/페이지 조합이 비싼지 타이머와 맞춰 볼 수 있게 한다.
+ */
+@Component
+public class BoardMetrics {
+
+    public static final String PAGE_MODE = "page";
+    public static final String CURSOR_MODE = "cursor";
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+    private static final double[] PAGE_DEPTH_BUCKETS = {0, 1, 2, 5, 10, 50, 100, 1000, 10000};
+    private static final double[] PAGE_SIZE_BUCKETS = {1, 10, 20, 50, 100};
+
+    private final MeterRegistry registry;
+    private final Timer createTimer;
+    private final Map<LoadKey, Timer> loadTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> pageDepths = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> pageSizes = new ConcurrentHashMap<>();
+
+    public BoardMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.createTimer = Timer.builder("board.create")
+                .description("게시글 생성 처리 시간 (커밋 제외)")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * 목록 조회 한 건을 측정한다.
+     *
+     * @param strategy 전략 이름
+     * @param mode     조회 방식 ({@link #PAGE_MODE} 또는 {@link #CURSOR_MODE})
+     * @param filtered 조건 조회 여부
+     * @param page     페이지 번호 (커서 조회는 깊이를 알 수 없으므로 기록하지 않음)
+     * @param size     페이지 크기
+     * @param call     실제 조회
+     * @return 조회 결과
+     */
+    public <T> T recordLoad(String strategy, String mode, boolean filtered, int page, int size, Supplier<T> call) {
+        if (PAGE_MODE.equals(mode)) {
+            pageDepths.computeIfAbsent(strategy, name -> DistributionSummary.builder("board.list.page.depth")
+                    .description("요청된 페이지 번호 분포")
+                    .tag("strategy", name)
+                    .serviceLevelObjectives(PAGE_DEPTH_BUCKETS)
+                    .register(registry)).record(page);
+        }
+        pageSizes.computeIfAbsent(strategy, name -> DistributionSummary.builder("board.list.page.size")
+                .description("요청된 페이지 크기 분포")
+                .tag("strategy", name)
+                .serviceLevelObjectives(PAGE_SIZE_BUCKETS)
+                .register(registry)).record(size);
+
+        Timer timer = loadTimers.computeIfAbsent(new LoadKey(strategy, mode, filtered), this::loadTimer);
+        return timer.record(call);
+    }
+
+    /**
+     * 게시글 생성 한 건을 측정한다.
+     */
+    public <T> T recordCreate(Supplier<T> call) {
+        return createTimer.record(call);
+    }
+
+    private Timer loadTimer(LoadKey key) {
+        return Timer.builder("board.strategy.load")
+                .description("로딩 전략별 목록 조회 시간")
+                .tag("strategy", key.strategy())
+                .tag("mode", key.mode())
+                .tag("filtered", String.valueOf(key.filtered()))
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private record LoadKey(String strategy, String mode, boolean filtered) {
+    }
+}
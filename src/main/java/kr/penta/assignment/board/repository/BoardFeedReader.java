@@ -0,0 +1,26 @@
+package kr.penta.assignment.board.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 로딩 전략이 목록을 읽는 데 쓰는 최신순 조회 연산
+ * <p>
+ * 단일 DB 에서는 {@link BoardRepository} 가, 샤딩을 켜면 샤드별 조회 결과를 병합하는
+ * {@code ShardedBoardStore} 가 구현한다. 조건 없는 목록은 ID 역순, 조건 조회는 (createdAt, id) 역순이다.
+ */
+public interface BoardFeedReader {
+
+    List<BoardSummaryResponse> findLatest(int excerptLength, Pageable pageable);
+
+    List<BoardSummaryResponse> findLatestBeforeId(Long id, int excerptLength, Pageable pageable);
+
+    List<BoardSummaryResponse> findLatest(BoardFilter filter, int excerptLength, Pageable pageable);
+
+    List<BoardSummaryResponse> findLatestBefore(BoardFilter filter, LocalDateTime createdAt, Long id,
+            int excerptLength, Pageable pageable);
+
+    long countMatching(BoardFilter filter);
+}
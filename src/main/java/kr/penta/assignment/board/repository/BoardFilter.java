@@ -0,0 +1,50 @@
+package kr.penta.assignment.board.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회 조건
+ * <p>
+ * 작성 시간 범위는 from 이상 to 미만이며, 지정하지 않은 경계는 {@link #MIN_CREATED_AT}, {@link #MAX_CREATED_AT} 로 대체해
+ * 쿼리에 항상 범위 조건이 들어가게 한다 (NULL 허용 조건은 인덱스 범위 스캔을 막는다).
+ *
+ * @param author 작성자 (null 이면 전체)
+ * @param from   작성 시간 하한 (포함, null 이면 제한 없음)
+ * @param to     작성 시간 상한 (미포함, null 이면 제한 없음)
+ */
+public record BoardFilter(String author, LocalDateTime from, LocalDateTime to) {
+
+    public static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    public static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private static final BoardFilter NONE = new BoardFilter(null, null, null);
+
+    public BoardFilter {
+        if (author != null && author.isBlank()) {
+            author = null;
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작 시간은 종료 시간보다 이전이어야 합니다");
+        }
+    }
+
+    public static BoardFilter none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return author == null && from == null && to == null;
+    }
+
+    public boolean hasAuthor() {
+        return author != null;
+    }
+
+    public LocalDateTime fromOrMin() {
+        return from != null ? from : MIN_CREATED_AT;
+    }
+
+    public LocalDateTime toOrMax() {
+        return to != null ? to : MAX_CREATED_AT;
+    }
+}
@@ -1,10 +1,231 @@
 package kr.penta.assignment.board.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardMapper;
 import kr.penta.assignment.board.entity.Board;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardFeedReader {
 
+    /**
+     * 목록용 요약 select 절 (JPQL 생성자 표현식으로 응답 레코드를 바로 생성, excerptLength 가 0 이하이면 미리보기 null)
+     * <p>
+     * substring 은 H2 가 UTF-16 단위, PostgreSQL 이 코드 포인트 단위로 세므로 미리보기 길이의 두 배를 읽는다. 이 select 절을
+     * 쓰는 쿼리는 직접 부르지 않고 {@link BoardMapper#withExcerpts} 로 자르는 default 메서드를 거친다.
+     */
+    String SUMMARY_SELECT = "select new kr.penta.assignment.board.dto.BoardDto$BoardSummaryResponse("
+            + "b.id, b.title, b.author, b.createdAt, "
+            + "case when :excerptLength > 0 then substring(b.content, 1, 2 * :excerptLength) else null end) ";
+
+    /**
+     * 최신 게시글 요약부터 ID 역순으로 조회 (OFFSET 페이지 또는 커서 기반 첫 페이지)
+     * <p>
+     * ID 가 작성 시각 순으로 만들어지므로 별도 정렬 인덱스 없이 기본 키 인덱스를 역순으로 읽는다. COUNT 쿼리는 실행하지 않으며,
+     * 전체 건수는 {@code BoardCountService} 에서 얻는다.
+     *
+     * @param excerptLength 본문 미리보기 길이 (0 이면 미리보기 없음)
+     * @param pageable      조회 위치와 건수 (정렬은 쿼리에 고정)
+     * @return 게시글 요약 목록
+     */
+    @Override
+    default List<BoardSummaryResponse> findLatest(int excerptLength, Pageable pageable) {
+        return BoardMapper.withExcerpts(findLatestRows(excerptLength, pageable), excerptLength);
+    }
+
+    /**
+     * 커서의 ID 보다 이전에 작성된 게시글 요약을 조회 (keyset seek)
+     * <p>
+     * OFFSET 없이 기본 키 범위 스캔만으로 처리되므로 커서 깊이와 무관하게 일정한 비용이 든다.
+     *
+     * @param id            커서의 게시글 ID
+     * @param excerptLength 본문 미리보기 길이 (0 이면 미리보기 없음)
+     * @param pageable      조회 건수 (offset 은 항상 0)
+     * @return 게시글 요약 목록
+     */
+    @Override
+    default List<BoardSummaryResponse> findLatestBeforeId(Long id, int excerptLength, Pageable pageable) {
+        return BoardMapper.withExcerpts(findLatestRowsBeforeId(id, excerptLength, pageable), excerptLength);
+    }
+
+    @Query(SUMMARY_SELECT
+            + "from Board b order by b.id desc")
+    List<BoardSummaryResponse> findLatestRows(@Param("excerptLength") int excerptLength, Pageable pageable);
+
+    @Query(SUMMARY_SELECT
+            + "from Board b where b.id < :id order by b.id desc")
+    List<BoardSummaryResponse> findLatestRowsBeforeId(@Param("id") Long id,
+            @Param("excerptLength") int excerptLength, Pageable pageable);
+
+    /**
+     * 작성 시간 범위 안의 게시글 요약을 최신순으로 조회
+     *
+     * @param from          작성 시간 하한 (포함)
+     * @param to            작성 시간 상한 (미포함)
+     * @param excerptLength 본문 미리보기 길이 (0 이면 미리보기 없음)
+     * @param pageable      조회 위치와 건수 (정렬은 쿼리에 고정)
+     * @return 게시글 요약 목록
+     */
+    @Query(SUMMARY_SELECT
+            + "from Board b "
+            + "where b.createdAt >= :from and b.createdAt < :to "
+            + "order by b.createdAt desc, b.id desc")
+    List<BoardSummaryResponse> findLatestBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("excerptLength") int excerptLength, Pageable pageable);
+
+    /**
+     * 작성 시간 범위 안에서 커서 (createdAt, id) 보다 이전 게시글 요약을 조회 (keyset seek)
+     * <p>
+     * 행 값 비교 (createdAt, id) &lt; (:createdAt, :id) 로 써서 인덱스 (CREATED_AT DESC, ID DESC) 의 커서 위치부터 바로
+     * 범위 스캔한다. 같은 작성 시간의 게시글은 ID 로 이어진다.
+     */
+    @Query(SUMMARY_SELECT
+            + "from Board b "
+            + "where b.createdAt >= :from and b.createdAt < :to "
+            + "and (b.createdAt, b.id) < (:createdAt, :id) "
+            + "order by b.createdAt desc, b.id desc")
+    List<BoardSummaryResponse> findLatestBetweenBefore(@Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            @Param("excerptLength") int excerptLength, Pageable pageable);
+
+    /**
+     * 작성자의 게시글 요약을 작성 시간 범위 안에서 최신순으로 조회
+     * <p>
+     * IDX_BOARD_AUTHOR_CREATED_AT_ID 인덱스에서 작성자 구간 하나만 범위 스캔한다.
+     *
+     * @param author        작성자
+     * @param from          작성 시간 하한 (포함)
+     * @param to            작성 시간 상한 (미포함)
+     * @param excerptLength 본문 미리보기 길이 (0 이면 미리보기 없음)
+     * @param pageable      조회 위치와 건수 (정렬은 쿼리에 고정)
+     * @return 게시글 요약 목록
+     */
+    @Query(SUMMARY_SELECT
+            + "from Board b "
+            + "where b.author = :author and b.createdAt >= :from and b.createdAt < :to "
+            + "order by b.createdAt desc, b.id desc")
+    List<BoardSummaryResponse> findLatestByAuthor(@Param("author") String author, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to, @Param("excerptLength") int excerptLength, Pageable pageable);
+
+    /**
+     * 작성자의 게시글 중 커서 (createdAt, id) 보다 이전 게시글 요약을 조회 (keyset seek)
+     */
+    @Query(SUMMARY_SELECT
+            + "from Board b "
+            + "where b.author = :author and b.createdAt >= :from and b.createdAt < :to "
+            + "and (b.createdAt, b.id) < (:createdAt, :id) "
+            + "order by b.createdAt desc, b.id desc")
+    List<BoardSummaryResponse> findLatestByAuthorBefore(@Param("author") String author,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            @Param("excerptLength") int excerptLength, Pageable pageable);
+
+    @Query("select count(b) from Board b where b.createdAt >= :from and b.createdAt < :to")
+    long countBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select count(b) from Board b where b.author = :author and b.createdAt >= :from and b.createdAt < :to")
+    long countByAuthor(@Param("author") String author, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * 조건에 맞는 게시글 요약을 최신순으로 조회 (작성자 지정 여부에 따라 사용할 인덱스가 달라진다)
+     *
+     * @param filter        조회 조건
+     * @param excerptLength 본문 미리보기 길이 (0 이면 미리보기 없음)
+     * @param pageable      조회 위치와 건수
+     * @return 게시글 요약 목록
+     */
+    @Override
+    default List<BoardSummaryResponse> findLatest(BoardFilter filter, int excerptLength, Pageable pageable) {
+        List<BoardSummaryResponse> rows = filter.hasAuthor()
+                ? findLatestByAuthor(filter.author(), filter.fromOrMin(), filter.toOrMax(), excerptLength, pageable)
+                : findLatestBetween(filter.fromOrMin(), filter.toOrMax(), excerptLength, pageable);
+        return BoardMapper.withExcerpts(rows, excerptLength);
+    }
+
+    /**
+     * 조건에 맞는 게시글 중 커서 (createdAt, id) 보다 이전 게시글 요약을 조회
+     */
+    @Override
+    default List<BoardSummaryResponse> findLatestBefore(BoardFilter filter, LocalDateTime createdAt, Long id,
+            int excerptLength, Pageable pageable) {
+        List<BoardSummaryResponse> rows = filter.hasAuthor()
+                ? findLatestByAuthorBefore(filter.author(), filter.fromOrMin(), filter.toOrMax(), createdAt, id,
+                        excerptLength, pageable)
+                : findLatestBetweenBefore(filter.fromOrMin(), filter.toOrMax(), createdAt, id, excerptLength,
+                        pageable);
+        return BoardMapper.withExcerpts(rows, excerptLength);
+    }
+
+    /**
+     * 조건에 맞는 게시글 수 (인덱스 범위만 세므로 전체 COUNT 보다 훨씬 작다)
+     */
+    @Override
+    default long countMatching(BoardFilter filter) {
+        if (filter.hasAuthor()) {
+            return countByAuthor(filter.author(), filter.fromOrMin(), filter.toOrMax());
+        }
+        return countBetween(filter.fromOrMin(), filter.toOrMax());
+    }
+
+    /**
+     * ID 목록에 해당하는 게시글 요약을 조회 (순서는 보장하지 않음)
+     *
+     * @param ids           게시글 ID 목록
+     * @param excerptLength 본문 미리보기 길이 (0 이면 미리보기 없음)
+     * @return 게시글 요약 목록
+     */
+    default List<BoardSummaryResponse> findSummariesByIdIn(Collection<Long> ids, int excerptLength) {
+        return BoardMapper.withExcerpts(findSummaryRowsByIdIn(ids, excerptLength), excerptLength);
+    }
+
+    @Query(SUMMARY_SELECT
+            + "from Board b where b.id in :ids")
+    List<BoardSummaryResponse> findSummaryRowsByIdIn(@Param("ids") Collection<Long> ids,
+            @Param("excerptLength") int excerptLength);
+
+    /**
+     * 주어진 ID 이후의 게시글을 ID 오름차순으로 조회 (전체 순회용)
+     *
+     * @param id       마지막으로 처리한 게시글 ID
+     * @param pageable 조회 건수 (offset 은 항상 0)
+     * @return 게시글 목록
+     */
+    @Query("select b from Board b where b.id > :id order by b.id asc")
+    List<Board> findAfterId(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * 주어진 ID 이후의 게시글을 ID 오름차순 forward-only 커서로 조회 (전체 내보내기용)
+     * <p>
+     * 트랜잭션 안에서 호출해야 하며, 반환된 Stream 은 반드시 닫아야 한다. 읽은 엔티티는 호출 측에서 detach 해 영속성
+     * 컨텍스트가 커지지 않게 한다.
+     *
+     * @param id 마지막으로 받은 게시글 ID (처음부터면 0)
+     * @return 게시글 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select b from Board b where b.id > :id order by b.id asc")
+    Stream<Board> streamAfterId(@Param("id") Long id);
+
+    /**
+     * 가장 큰 게시글 ID 조회 (게시글이 없으면 0)
+     *
+     * @return 최대 게시글 ID
+     */
+    @Query("select coalesce(max(b.id), 0) from Board b")
+    long findMaxId();
 }
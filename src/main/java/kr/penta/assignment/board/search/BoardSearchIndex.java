@@ -0,0 +1,254 @@
+package kr.penta.assignment.board.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 역색인 (단어 → {@link PostingList})
+ * <p>
+ * 제목·작성자·본문을 {@link BoardTokenizer} 로 나눠 필드 가중치(제목 3, 작성자 2, 본문 1)를 더한 값을 단어 빈도로 저장한다.
+ * 검색은 모든 질의 단어를 포함하는 게시글만 대상으로 하며(AND), log(1 + 빈도) × idf 합으로 순위를 매긴다.
+ */
+public class BoardSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private static final int SNAPSHOT_MAGIC = 0x42534958;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, PostingList> postings = new HashMap<>();
+    private long documentCount;
+    private long maxIndexedId;
+
+    /**
+     * 게시글 하나를 색인 (이미 색인된 ID 는 무시하므로 같은 게시글을 다시 넘겨도 된다)
+     *
+     * @return 새로 색인했으면 true
+     */
+    public boolean index(long id, String title, String author, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        accumulate(frequencies, title, TITLE_WEIGHT);
+        accumulate(frequencies, author, AUTHOR_WEIGHT);
+        accumulate(frequencies, content, CONTENT_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            if (isIndexed(id, frequencies)) {
+                return false;
+            }
+            frequencies.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, key -> new PostingList()).add(id, weight));
+            documentCount++;
+            maxIndexedId = Math.max(maxIndexedId, id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의에 맞는 게시글 ID 를 순위대로 조회
+     *
+     * @param query  검색어
+     * @param offset 건너뛸 결과 수 (일치 건수 이상이면 빈 구간)
+     * @param limit  반환할 최대 결과 수
+     * @return 전체 일치 건수와 요청 구간의 게시글 ID
+     */
+    public SearchResult search(String query, long offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(BoardTokenizer.tokenize(query)));
+        if (terms.isEmpty()) {
+            return new SearchResult(0, List.of());
+        }
+
+        long[] ids;
+        double[] scores;
+        int matches = 0;
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[terms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(terms.get(i));
+                if (lists[i] == null) {
+                    return new SearchResult(0, List.of());
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = Math.log(1 + (double) documentCount / lists[i].size());
+            }
+
+            PostingList smallest = lists[0];
+            ids = new long[smallest.size()];
+            scores = new double[smallest.size()];
+            candidates:
+            for (int i = 0; i < smallest.size(); i++) {
+                long id = smallest.idAt(i);
+                double score = Math.log1p(smallest.weightAt(i)) * idf[0];
+                for (int j = 1; j < lists.length; j++) {
+                    int index = lists[j].indexOf(id);
+                    if (index < 0) {
+                        continue candidates;
+                    }
+                    score += Math.log1p(lists[j].weightAt(index)) * idf[j];
+                }
+                ids[matches] = id;
+                scores[matches] = score;
+                matches++;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new SearchResult(matches, page(ids, scores, matches, offset, limit));
+    }
+
+    public long getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getMaxIndexedId() {
+        lock.readLock().lock();
+        try {
+            return maxIndexedId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인을 파일로 저장 (임시 파일에 쓴 뒤 교체하므로 저장 중 종료되어도 이전 스냅샷이 유지된다)
+     * <p>
+     * 읽기 락 안에서는 색인을 복사만 하고 파일 쓰기는 락을 놓은 뒤 수행해, 저장하는 동안 새 게시글 색인(쓰기 락)과 그 뒤에
+     * 줄 서는 검색이 디스크 쓰기를 기다리지 않게 한다.
+     */
+    public void writeSnapshot(Path path) throws IOException {
+        long copiedDocumentCount;
+        long copiedMaxIndexedId;
+        Map<String, PostingList> copied;
+        lock.readLock().lock();
+        try {
+            copiedDocumentCount = documentCount;
+            copiedMaxIndexedId = maxIndexedId;
+            copied = new HashMap<>(postings.size() * 4 / 3 + 1);
+            postings.forEach((term, list) -> copied.put(term, list.copy()));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(copiedDocumentCount);
+            out.writeLong(copiedMaxIndexedId);
+            out.writeInt(copied.size());
+            for (Map.Entry<String, PostingList> entry : copied.entrySet()) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 파일로 색인을 교체
+     *
+     * @return 스냅샷을 읽었는지 여부 (파일이 없으면 false)
+     * @throws IOException 파일 형식이 올바르지 않은 경우
+     */
+    public boolean readSnapshot(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("지원하지 않는 검색 색인 스냅샷입니다: " + path);
+            }
+            long loadedDocumentCount = in.readLong();
+            long loadedMaxIndexedId = in.readLong();
+            int termCount = in.readInt();
+            Map<String, PostingList> loaded = new HashMap<>(termCount * 4 / 3 + 1);
+            for (int i = 0; i < termCount; i++) {
+                loaded.put(in.readUTF(), PostingList.readFrom(in));
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings = loaded;
+                documentCount = loadedDocumentCount;
+                maxIndexedId = loadedMaxIndexedId;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return true;
+    }
+
+    private boolean isIndexed(long id, Map<String, Integer> frequencies) {
+        if (frequencies.isEmpty()) {
+            return false;
+        }
+        PostingList list = postings.get(frequencies.keySet().iterator().next());
+        return list != null && list.indexOf(id) >= 0;
+    }
+
+    private static void accumulate(Map<String, Integer> frequencies, String text, int weight) {
+        for (String token : BoardTokenizer.tokenize(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private static List<Long> page(long[] ids, double[] scores, int matches, long offset, int limit) {
+        if (offset >= matches) {
+            return List.of();
+        }
+        int start = (int) offset;
+        Integer[] order = new Integer[matches];
+        for (int i = 0; i < matches; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> scores[a] != scores[b]
+                ? Double.compare(scores[b], scores[a])
+                : Long.compare(ids[b], ids[a]));
+
+        int end = (int) Math.min(matches, offset + limit);
+        List<Long> result = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            result.add(ids[order[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * @param total 전체 일치 건수
+     * @param ids   요청 구간의 게시글 ID (순위순)
+     */
+    public record SearchResult(long total, List<Long> ids) {
+
+    }
+}
@@ -0,0 +1,75 @@
+package kr.penta.assignment.board.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * <p>
+ * 문자/숫자 연속 구간을 하나의 run 으로 보고, 한글·CJK run 은 음절 bigram 으로(한 글자 run 은 그대로), 그 밖의 run 은
+ * 소문자 단어 하나로 만든다. 형태소 분석 없이도 "게시글" 로 "샘플 게시글의" 를 찾을 수 있도록 하기 위함이다.
+ */
+public final class BoardTokenizer {
+
+    private BoardTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean tokenChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                emitRun(normalized, start, i, tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void emitRun(String text, int start, int end, List<String> tokens) {
+        if (!isCjk(text.charAt(start))) {
+            int cjkStart = start;
+            while (cjkStart < end && !isCjk(text.charAt(cjkStart))) {
+                cjkStart++;
+            }
+            tokens.add(text.substring(start, cjkStart));
+            if (cjkStart < end) {
+                emitRun(text, cjkStart, end, tokens);
+            }
+            return;
+        }
+
+        int cjkEnd = start;
+        while (cjkEnd < end && isCjk(text.charAt(cjkEnd))) {
+            cjkEnd++;
+        }
+        if (cjkEnd - start == 1) {
+            tokens.add(text.substring(start, cjkEnd));
+        } else {
+            for (int i = start; i + 2 <= cjkEnd; i++) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        }
+        if (cjkEnd < end) {
+            emitRun(text, cjkEnd, end, tokens);
+        }
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
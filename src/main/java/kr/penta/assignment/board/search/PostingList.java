@@ -0,0 +1,112 @@
+package kr.penta.assignment.board.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 한 단어의 게시글 목록 (id 오름차순 long[] 과 가중치 int[] 의 병렬 배열)
+ * <p>
+ * 게시글 ID 는 대부분 증가하는 순서로 들어오므로 뒤에 붙이는 것이 일반적인 경로이고, 순서가 어긋난 경우에만 삽입 위치를
+ * 찾아 밀어낸다. 동기화는 {@link BoardSearchIndex} 가 담당한다.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids;
+    private int[] weights;
+    private int size;
+
+    PostingList() {
+        this.ids = new long[INITIAL_CAPACITY];
+        this.weights = new int[INITIAL_CAPACITY];
+    }
+
+    private PostingList(long[] ids, int[] weights, int size) {
+        this.ids = ids;
+        this.weights = weights;
+        this.size = size;
+    }
+
+    void add(long id, int weight) {
+        if (size > 0 && ids[size - 1] >= id) {
+            insert(id, weight);
+            return;
+        }
+        ensureCapacity();
+        ids[size] = id;
+        weights[size] = weight;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long idAt(int index) {
+        return ids[index];
+    }
+
+    int weightAt(int index) {
+        return weights[index];
+    }
+
+    /**
+     * id 의 위치를 찾는다.
+     *
+     * @return 위치 (없으면 음수)
+     */
+    int indexOf(long id) {
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    /**
+     * 현재 내용의 복사본 (스냅샷 저장 중 원본이 바뀌어도 영향을 받지 않는다)
+     */
+    PostingList copy() {
+        return new PostingList(Arrays.copyOf(ids, size), Arrays.copyOf(weights, size), size);
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeLong(ids[i]);
+            out.writeInt(weights[i]);
+        }
+    }
+
+    static PostingList readFrom(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        long[] ids = new long[Math.max(size, INITIAL_CAPACITY)];
+        int[] weights = new int[ids.length];
+        for (int i = 0; i < size; i++) {
+            ids[i] = in.readLong();
+            weights[i] = in.readInt();
+        }
+        return new PostingList(ids, weights, size);
+    }
+
+    private void insert(long id, int weight) {
+        int index = indexOf(id);
+        if (index >= 0) {
+            return;
+        }
+        int position = -index - 1;
+        ensureCapacity();
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        System.arraycopy(weights, position, weights, position + 1, size - position);
+        ids[position] = id;
+        weights[position] = weight;
+        size++;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            int capacity = ids.length + (ids.length >> 1) + 1;
+            ids = Arrays.copyOf(ids, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+    }
+}
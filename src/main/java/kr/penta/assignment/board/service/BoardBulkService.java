@@ -0,0 +1,285 @@
+package kr.penta.assignment.board.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import kr.penta.assignment.board.content.BoardContentStore;
+import kr.penta.assignment.board.dto.BoardDto.BoardRequest;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BulkInsertResult;
+import kr.penta.assignment.board.dto.BoardDto.BulkItemError;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import kr.penta.assignment.board.shard.ShardedBoardStore;
+import kr.penta.assignment.common.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 대량 등록 서비스
+ * <p>
+ * 엔티티를 거치지 않고 JDBC 배치로 직접 INSERT 하며, ID 는 {@link SnowflakeIdGenerator} 로 미리 만들어 생성 키를 돌려받지
+ * 않는다. 항목은 batch-size 단위 청크로 나뉘어 청크마다 별도 트랜잭션으로 커밋되며, 검증에 실패한 항목은 건너뛰고 순번과
+ * 사유를 보고한다. 저장에 실패한 청크는 그 청크의 항목만 실패로 보고하고 다음 청크를 계속 등록하므로, 앞서 커밋된 청크를
+ * 다시 보내 중복 등록하지 않도록 클라이언트는 실패한 순번만 다시 요청하면 된다.
+ */
+@Service
+@Slf4j
+public class BoardBulkService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO BOARD (ID, TITLE, CONTENT, AUTHOR, CREATED_AT, CONTENT_LENGTH) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final String CHUNK_FAILED_MESSAGE = "저장 중 오류가 발생해 등록하지 못했습니다. 이 항목만 다시 요청해주세요.";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ShardedBoardStore> shardedBoardStore;
+    private final SnowflakeIdGenerator idGenerator;
+    private final ObjectProvider<BoardContentStore> boardContentStore;
+    private final int batchSize;
+
+    public BoardBulkService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            Validator validator, ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+            ObjectProvider<ShardedBoardStore> shardedBoardStore, SnowflakeIdGenerator idGenerator,
+            ObjectProvider<BoardContentStore> boardContentStore,
+            @Value("${board.bulk.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(BoardRequest.class);
+        this.eventPublisher = eventPublisher;
+        this.shardedBoardStore = shardedBoardStore;
+        this.idGenerator = idGenerator;
+        this.boardContentStore = boardContentStore;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 게시글 목록을 대량 등록
+     *
+     * @param requests 게시글 생성 요청 목록
+     * @return 등록 결과
+     */
+    public BulkInsertResult insertAll(List<BoardRequest> requests) {
+        BulkInsertContext context = new BulkInsertContext();
+        for (BoardRequest request : requests) {
+            context.accept(request);
+        }
+        return context.finish();
+    }
+
+    /**
+     * NDJSON(한 줄에 게시글 하나) 본문을 읽으면서 청크 단위로 등록
+     * <p>
+     * 전체 본문을 메모리에 올리지 않으므로 요청 크기와 무관하게 청크 하나 분량의 메모리만 사용한다.
+     *
+     * @param body NDJSON 요청 본문
+     * @return 등록 결과
+     */
+    public BulkInsertResult insertNdjson(InputStream body) {
+        BulkInsertContext context = new BulkInsertContext();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    context.accept(requestReader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    context.reject("JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return context.finish();
+    }
+
+    /**
+     * 검증을 통과한 청크 하나를 하나의 트랜잭션으로 등록
+     * <p>
+     * 샤딩을 켜면 ID 를 미리 만들어 샤드별 배치로 나눠 저장한다 (샤드 사이에는 원자성이 없다). 본문 저장소를 켜면 큰 본문은
+     * INSERT 전에 저장소에 한꺼번에 기록하고 행에는 앞부분만 남긴다.
+     *
+     * @param requests 게시글 생성 요청 청크
+     * @return 생성된 게시글 목록
+     */
+    public List<BoardResponse> insertChunk(List<BoardRequest> requests) {
+        ShardedBoardStore store = shardedBoardStore.getIfAvailable();
+        if (store != null) {
+            // 커밋 후 리스너(캐시, 카운터, 색인)가 같은 방식으로 받도록 이벤트는 트랜잭션 안에서 발행한다
+            return transactionTemplate.execute(status -> {
+                List<BoardResponse> created = store.createAll(requests);
+                eventPublisher.publishEvent(new BoardsCreatedEvent(created));
+                return created;
+            });
+        }
+        return transactionTemplate.execute(status -> {
+            LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            List<BoardResponse> created = new ArrayList<>(requests.size());
+            for (BoardRequest request : requests) {
+                created.add(BoardResponse.builder()
+                        .id(idGenerator.nextId())
+                        .title(request.getTitle())
+                        .content(request.getContent())
+                        .author(request.getAuthor())
+                        .createdAt(createdAt)
+                        .build());
+            }
+            List<RowContent> rowContents = offloadLargeContents(created);
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    BoardResponse board = created.get(i);
+                    ps.setLong(1, board.getId());
+                    ps.setString(2, board.getTitle());
+                    RowContent rowContent = rowContents.get(i);
+                    ps.setString(3, rowContent.content());
+                    ps.setString(4, board.getAuthor());
+                    ps.setTimestamp(5, Timestamp.valueOf(createdAt));
+                    ps.setObject(6, rowContent.contentLength(), Types.INTEGER);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return created.size();
+                }
+            });
+            eventPublisher.publishEvent(new BoardsCreatedEvent(created));
+            return created;
+        });
+    }
+
+    /**
+     * 큰 본문을 저장소에 기록하고 게시글마다 CONTENT, CONTENT_LENGTH 컬럼에 넣을 값을 돌려준다 (저장소를 끄면 본문 그대로).
+     */
+    private List<RowContent> offloadLargeContents(List<BoardResponse> boards) {
+        BoardContentStore contentStore = boardContentStore.getIfAvailable();
+        List<RowContent> rowContents = new ArrayList<>(boards.size());
+        List<BoardResponse> large = new ArrayList<>();
+        for (BoardResponse board : boards) {
+            if (contentStore != null && contentStore.isLarge(board.getContent())) {
+                large.add(board);
+                rowContents.add(new RowContent(contentStore.preview(board.getContent()), board.getContent().length()));
+            } else {
+                rowContents.add(new RowContent(board.getContent(), null));
+            }
+        }
+        if (!large.isEmpty()) {
+            contentStore.putAll(large);
+        }
+        return rowContents;
+    }
+
+    /**
+     * 행에 넣을 본문 (저장소로 옮겼으면 앞부분과 전체 길이, 아니면 본문과 null)
+     */
+    private record RowContent(String content, Integer contentLength) {
+    }
+
+    /**
+     * 요청 하나의 누적 상태 (현재 청크, 순번, 실패 목록)
+     */
+    private class BulkInsertContext {
+
+        private final List<BoardRequest> chunk = new ArrayList<>(batchSize);
+        private final int[] chunkIndexes = new int[batchSize];
+        private final List<BulkItemError> errors = new ArrayList<>();
+        private int index;
+        private int inserted;
+        private int failed;
+
+        void accept(BoardRequest request) {
+            if (request == null) {
+                reject("게시글 정보가 비어 있습니다");
+                return;
+            }
+            Set<ConstraintViolation<BoardRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                reject(violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .collect(Collectors.joining(", ")));
+                return;
+            }
+            chunkIndexes[chunk.size()] = index;
+            chunk.add(request);
+            index++;
+            if (chunk.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(String message) {
+            recordError(index, message);
+            index++;
+        }
+
+        BulkInsertResult finish() {
+            flush();
+            // 저장 실패는 청크 단위로 늦게 기록되므로 순번 순서로 맞춘다
+            errors.sort(Comparator.comparingInt(BulkItemError::getIndex));
+            log.info("게시글 대량 등록 완료 - received: {}, inserted: {}, failed: {}", index, inserted, failed);
+            return BulkInsertResult.builder()
+                    .received(index)
+                    .inserted(inserted)
+                    .failed(failed)
+                    .errors(errors)
+                    .build();
+        }
+
+        /**
+         * 현재 청크를 등록 (실패하면 청크 항목 모두를 요청 내 순번으로 실패 처리)
+         */
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                inserted += insertChunk(chunk).size();
+            } catch (RuntimeException e) {
+                log.error("게시글 대량 등록 청크 실패 - 순번: {}~{}", chunkIndexes[0], chunkIndexes[chunk.size() - 1], e);
+                for (int i = 0; i < chunk.size(); i++) {
+                    recordError(chunkIndexes[i], CHUNK_FAILED_MESSAGE);
+                }
+            }
+            chunk.clear();
+        }
+
+        private void recordError(int itemIndex, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(BulkItemError.builder().index(itemIndex).message(message).build());
+            }
+        }
+    }
+}
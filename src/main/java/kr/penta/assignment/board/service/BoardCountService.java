@@ -0,0 +1,103 @@
+package kr.penta.assignment.board.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.shard.ShardedBoardStore;
+import kr.penta.assignment.common.datasource.DataSourceRoutingContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 전체 게시글 수를 메모리에서 관리하는 서비스
+ * <p>
+ * 최초 한 번 DB 에서 COUNT 로 기준값을 읽은 뒤, 생성 커밋마다 증가분만 누적한다. 누락·중복 반영은 주기적인 재동기화로
+ * 보정되며, max-staleness 를 지정하면 마지막 동기화 이후 그 시간이 지난 조회는 동기적으로 재동기화한다.
+ */
+@Service
+@Slf4j
+public class BoardCountService {
+
+    private final BoardRepository boardRepository;
+    private final ObjectProvider<ShardedBoardStore> shardedBoardStore;
+    private final long maxStalenessNanos;
+
+    private final LongAdder delta = new LongAdder();
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    private volatile long base;
+    private volatile boolean seeded;
+    private volatile long reconciledAt;
+
+    public BoardCountService(BoardRepository boardRepository, ObjectProvider<ShardedBoardStore> shardedBoardStore,
+            @Value("${board.count.max-staleness:PT0S}") Duration maxStaleness) {
+        this.boardRepository = boardRepository;
+        this.shardedBoardStore = shardedBoardStore;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+    }
+
+    /**
+     * 전체 게시글 수 조회
+     *
+     * @return 전체 게시글 수
+     */
+    public long getCount() {
+        if (!seeded || isStale()) {
+            reconcile();
+        }
+        return base + delta.sum();
+    }
+
+    /**
+     * DB 의 COUNT 결과로 기준값을 다시 맞춘다.
+     * <p>
+     * 조회 직전까지의 증가분을 기준값에서 빼 두므로, 조회 중에 커밋된 게시글은 다음 재동기화 전까지 최대 그 건수만큼만 오차가 남는다.
+     * 증가분은 primary 커밋 기준이므로 COUNT 도 복제 지연이 없는 primary 에서 읽는다. 샤딩을 켜면 샤드별 COUNT 의 합을 쓴다.
+     */
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            long appliedDelta = delta.sum();
+            ShardedBoardStore store = shardedBoardStore.getIfAvailable();
+            long count = store != null ? store.count() : DataSourceRoutingContext.onPrimary(boardRepository::count);
+            long previous = base + appliedDelta;
+            base = count - appliedDelta;
+            reconciledAt = System.nanoTime();
+            if (seeded && previous != count) {
+                log.info("게시글 수 재동기화 - cached: {}, actual: {}", previous, count);
+            }
+            seeded = true;
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${board.count.reconcile-interval:PT5M}",
+            fixedDelayString = "${board.count.reconcile-interval:PT5M}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardsCreated(BoardsCreatedEvent event) {
+        delta.add(event.boards().size());
+    }
+
+    private boolean isStale() {
+        return maxStalenessNanos > 0 && System.nanoTime() - reconciledAt > maxStalenessNanos;
+    }
+}
@@ -0,0 +1,164 @@
+package kr.penta.assignment.board.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.Stream;
+import kr.penta.assignment.board.content.BoardContentStore;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardMapper;
+import kr.penta.assignment.board.entity.Board;
+import kr.penta.assignment.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 전체 내보내기 서비스
+ * <p>
+ * 하나의 읽기 전용 트랜잭션에서 forward-only JDBC 커서로 ID 순으로 읽으면서 한 건씩 출력 스트림에 쓴다. 읽은 엔티티는 즉시
+ * detach 하므로 건수와 무관하게 힙 사용량이 일정하다. 출력된 마지막 ID 를 afterId 로 넘기면 그 다음부터 이어 받을 수 있다.
+ */
+@Service
+@Slf4j
+public class BoardExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final BoardRepository boardRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter responseWriter;
+    private final ObjectProvider<BoardContentStore> boardContentStore;
+
+    public BoardExportService(BoardRepository boardRepository, EntityManager entityManager,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+            ObjectProvider<BoardContentStore> boardContentStore) {
+        this.boardRepository = boardRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.responseWriter = objectMapper.writerFor(BoardResponse.class);
+        this.boardContentStore = boardContentStore;
+    }
+
+    /**
+     * 게시글을 지정한 형식으로 출력 스트림에 쓴다.
+     *
+     * @param out     출력 스트림 (닫지 않음)
+     * @param format  출력 형식
+     * @param afterId 이 ID 이후의 게시글부터 출력 (처음부터면 0)
+     */
+    public void export(OutputStream out, ExportFormat format, long afterId) {
+        BoardContentStore contentStore = boardContentStore.getIfAvailable();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try (Stream<Board> boards = boardRepository.streamAfterId(afterId)) {
+                RowWriter rowWriter = format == ExportFormat.CSV ? csvWriter(writer) : ndjsonWriter(writer);
+                long count = 0;
+                for (Board board : (Iterable<Board>) boards::iterator) {
+                    BoardResponse response = BoardMapper.toResponse(board);
+                    rowWriter.write(contentStore != null
+                            ? contentStore.resolve(response)
+                            : BoardContentStore.requireInline(response));
+                    entityManager.detach(board);
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                }
+                writer.flush();
+                log.info("게시글 내보내기 완료 - format: {}, afterId: {}, count: {}", format, afterId, count);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private RowWriter ndjsonWriter(Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return board -> {
+            responseWriter.writeValue(generator, board);
+            generator.flush();
+            writer.write('\n');
+        };
+    }
+
+    private RowWriter csvWriter(Writer writer) throws IOException {
+        writer.write("id,title,author,createdAt,content\n");
+        return board -> {
+            writer.write(String.valueOf(board.getId()));
+            writer.write(',');
+            writeCsvField(writer, board.getTitle());
+            writer.write(',');
+            writeCsvField(writer, board.getAuthor());
+            writer.write(',');
+            writer.write(String.valueOf(board.getCreatedAt()));
+            writer.write(',');
+            writeCsvField(writer, board.getContent());
+            writer.write('\n');
+        };
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+
+        void write(BoardResponse board) throws IOException;
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + ". 지원 형식: ndjson, csv");
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package kr.penta.assignment.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import kr.penta.assignment.board.dto.BoardDto.BoardRequest;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.IngestionStatus;
+import kr.penta.assignment.board.dto.BoardDto.IngestionStatusResponse;
+import kr.penta.assignment.board.exception.IngestionQueueFullException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 비동기 등록(write-behind) 파이프라인
+ * <p>
+ * 요청은 고정 크기 링 버퍼(ArrayBlockingQueue)에 적재되고 즉시 추적 토큰을 돌려준다. 전용 writer 스레드 하나가 큐를
+ * 비우면서 모인 요청을 {@link BoardBulkService#insertChunk} 로 한 번에 커밋(group commit)한다. 큐가 가득 차면
+ * {@link IngestionQueueFullException} 으로 거절하며, 종료 시에는 웹 서버가 멈춘 뒤 남은 요청을 모두 기록하고 끝낸다.
+ * shutdown-timeout 안에 다 기록하지 못하면 큐에 남은 요청은 기록하지 않고 실패로 표시한다.
+ */
+@Service
+@Slf4j
+public class BoardIngestionService implements SmartLifecycle {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+
+    private final BoardBulkService boardBulkService;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<Ticket> queue;
+    private final Cache<String, CompletableFuture<BoardResponse>> tickets;
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread writer;
+
+    public BoardIngestionService(BoardBulkService boardBulkService,
+            @Value("${board.ingestion.enabled:false}") boolean enabled,
+            @Value("${board.ingestion.queue-capacity:10000}") int queueCapacity,
+            @Value("${board.ingestion.max-batch-size:500}") int maxBatchSize,
+            @Value("${board.ingestion.ticket-retention:PT10M}") Duration ticketRetention,
+            @Value("${board.ingestion.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.boardBulkService = boardBulkService;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.tickets = Caffeine.newBuilder()
+                .expireAfterWrite(ticketRetention)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 게시글 생성 요청을 큐에 적재
+     *
+     * @param request 검증된 게시글 생성 요청
+     * @return 처리 상태 조회용 토큰
+     * @throws IngestionQueueFullException 큐가 가득 찼거나 종료 중인 경우
+     */
+    public String submit(BoardRequest request) {
+        if (!accepting) {
+            throw new IngestionQueueFullException("게시글 등록 파이프라인이 동작하지 않습니다");
+        }
+
+        String token = UUID.randomUUID().toString();
+        CompletableFuture<BoardResponse> future = new CompletableFuture<>();
+        tickets.put(token, future);
+        if (!queue.offer(new Ticket(request, future))) {
+            tickets.invalidate(token);
+            throw new IngestionQueueFullException("게시글 등록 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return token;
+    }
+
+    /**
+     * 토큰의 처리 상태를 조회하고, wait 가 주어지면 완료될 때까지 최대 그 시간만큼 기다린다.
+     *
+     * @param token 추적 토큰
+     * @param wait  최대 대기 시간
+     * @return 처리 상태
+     */
+    public IngestionStatusResponse getStatus(String token, Duration wait) {
+        CompletableFuture<BoardResponse> future = tickets.getIfPresent(token);
+        if (future == null) {
+            throw new IllegalArgumentException("등록 요청을 찾을 수 없습니다. token: " + token);
+        }
+
+        try {
+            BoardResponse board = future.isDone() || wait.isZero()
+                    ? future.getNow(null)
+                    : future.get(wait.toMillis(), TimeUnit.MILLISECONDS);
+            return board == null
+                    ? status(token, IngestionStatus.PENDING, null, null)
+                    : status(token, IngestionStatus.COMPLETED, board, null);
+        } catch (TimeoutException e) {
+            return status(token, IngestionStatus.PENDING, null, null);
+        } catch (CompletionException | ExecutionException e) {
+            return status(token, IngestionStatus.FAILED, null, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return status(token, IngestionStatus.PENDING, null, null);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        accepting = true;
+        writer = new Thread(this::drainLoop, "board-ingestion-writer");
+        writer.start();
+        log.info("게시글 비동기 등록 파이프라인 시작");
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        accepting = false;
+        running = false;
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int abandoned = failRemaining();
+        if (abandoned > 0) {
+            log.warn("게시글 비동기 등록 파이프라인 종료 - 제한 시간 안에 기록하지 못해 실패 처리한 요청: {}", abandoned);
+        } else {
+            log.info("게시글 비동기 등록 파이프라인 종료");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버가 요청 수신을 멈춘 뒤에 종료되도록 웹 서버 생명주기보다 낮은 phase 를 사용한다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<Ticket> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Ticket first = queue.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Ticket> batch) {
+        try {
+            List<BoardResponse> created = boardBulkService.insertChunk(
+                    batch.stream().map(Ticket::request).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(created.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.error("게시글 비동기 등록 실패 - batch size: {}", batch.size(), e);
+            batch.forEach(ticket -> ticket.future().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 큐에 남은 요청을 꺼내 실패로 표시한다 (writer 가 기록 중인 배치는 writer 가 끝낸다).
+     */
+    private int failRemaining() {
+        List<Ticket> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        IllegalStateException failure = new IllegalStateException("서버 종료로 등록하지 못했습니다. 다시 요청해주세요.");
+        remaining.forEach(ticket -> ticket.future().completeExceptionally(failure));
+        return remaining.size();
+    }
+
+    private IngestionStatusResponse status(String token, IngestionStatus status, BoardResponse board,
+            String message) {
+        return IngestionStatusResponse.builder()
+                .token(token)
+                .status(status)
+                .board(board)
+                .message(message)
+                .build();
+    }
+
+    private record Ticket(BoardRequest request, CompletableFuture<BoardResponse> future) {
+
+    }
+}
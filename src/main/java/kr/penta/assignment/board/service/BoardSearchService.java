@@ -0,0 +1,184 @@
+package kr.penta.assignment.board.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.penta.assignment.board.content.BoardContentStore;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import kr.penta.assignment.board.dto.BoardMapper;
+import kr.penta.assignment.board.entity.Board;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.search.BoardSearchIndex;
+import kr.penta.assignment.board.search.BoardSearchIndex.SearchResult;
+import kr.penta.assignment.common.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 전문 검색 서비스
+ * <p>
+ * 기동 시 스냅샷이 있으면 먼저 읽고, 스냅샷 이후의 게시글을 ID 순으로 이어서 색인한다. 이후에는 생성 커밋마다 증분 색인하며,
+ * 변경이 있으면 주기적으로(그리고 종료 시) 스냅샷을 다시 저장한다.
+ * <p>
+ * ID 는 INSERT 전에 만들어지므로 스냅샷의 최대 ID 보다 작은 ID 가 스냅샷 뒤에 커밋될 수 있다 (긴 트랜잭션, 다른 인스턴스,
+ * 시계 차이). 그래서 이어서 색인할 때는 최대 ID 의 생성 시각보다 catch-up-overlap 만큼 앞선 ID 부터 다시 훑고, 이미 색인된
+ * 게시글은 색인이 건너뛴다.
+ */
+@Service
+@Slf4j
+public class BoardSearchService {
+
+    private final BoardRepository boardRepository;
+    private final ObjectProvider<BoardContentStore> boardContentStore;
+    private final BoardSearchIndex index = new BoardSearchIndex();
+    private final Path snapshotPath;
+    private final int bootstrapBatchSize;
+    private final int excerptLength;
+    private final Duration catchUpOverlap;
+
+    private volatile boolean dirty;
+
+    public BoardSearchService(BoardRepository boardRepository, ObjectProvider<BoardContentStore> boardContentStore,
+            @Value("${board.search.snapshot-path:}") String snapshotPath,
+            @Value("${board.search.bootstrap-batch-size:1000}") int bootstrapBatchSize,
+            @Value("${board.list.excerpt-length:100}") int excerptLength,
+            @Value("${board.search.catch-up-overlap:PT5M}") Duration catchUpOverlap) {
+        this.boardRepository = boardRepository;
+        this.boardContentStore = boardContentStore;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.bootstrapBatchSize = bootstrapBatchSize;
+        this.excerptLength = excerptLength;
+        this.catchUpOverlap = catchUpOverlap;
+    }
+
+    /**
+     * 제목, 작성자, 본문에서 검색
+     *
+     * @param query 검색어 (모든 단어를 포함하는 게시글만 일치)
+     * @param page  페이지 번호
+     * @param size  페이지 크기
+     * @return 순위순 게시글 목록과 메타 정보
+     */
+    public LoadResult search(String query, int page, int size) {
+        // page 는 하한만 검증하므로 int 곱셈이 넘치지 않도록 long 으로 계산한다
+        SearchResult result = index.search(query, (long) page * size, size);
+
+        Map<Long, BoardSummaryResponse> summaries = result.ids().isEmpty()
+                ? Map.of()
+                : boardRepository.findSummariesByIdIn(result.ids(), excerptLength).stream()
+                        .collect(Collectors.toMap(BoardSummaryResponse::id, Function.identity()));
+
+        List<BoardSummaryResponse> boards = result.ids().stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        int totalPages = (int) ((result.total() + size - 1) / size);
+        return LoadResult.builder()
+                .boards(boards)
+                .hasNext(page + 1L < totalPages)
+                .hasPrevious(page > 0)
+                .totalElements(result.total())
+                .totalPages(totalPages)
+                .currentPage(page)
+                .strategy("search")
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (snapshotPath != null) {
+            try {
+                if (index.readSnapshot(snapshotPath)) {
+                    log.info("검색 색인 스냅샷 로드 - documents: {}, maxId: {}",
+                            index.getDocumentCount(), index.getMaxIndexedId());
+                }
+            } catch (IOException e) {
+                log.warn("검색 색인 스냅샷을 읽지 못해 처음부터 색인합니다: {}", e.getMessage());
+            }
+        }
+
+        BoardContentStore contentStore = boardContentStore.getIfAvailable();
+        long lastId = catchUpAfterId(index.getMaxIndexedId());
+        long indexed = 0;
+        List<Board> boards;
+        do {
+            boards = boardRepository.findAfterId(lastId, PageRequest.ofSize(bootstrapBatchSize));
+            for (Board board : boards) {
+                BoardResponse response = BoardMapper.toResponse(board);
+                String content = (contentStore != null
+                        ? contentStore.resolve(response)
+                        : BoardContentStore.requireInline(response)).getContent();
+                if (index.index(board.getId(), board.getTitle(), board.getAuthor(), content)) {
+                    indexed++;
+                }
+                lastId = board.getId();
+            }
+        } while (boards.size() == bootstrapBatchSize);
+
+        dirty = indexed > 0;
+        log.info("검색 색인 준비 완료 - 추가 색인: {}, 전체: {}", indexed, index.getDocumentCount());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardsCreated(BoardsCreatedEvent event) {
+        for (BoardResponse board : event.boards()) {
+            index.index(board.getId(), board.getTitle(), board.getAuthor(), board.getContent());
+        }
+        dirty = true;
+    }
+
+    @Scheduled(initialDelayString = "${board.search.snapshot-interval:PT10M}",
+            fixedDelayString = "${board.search.snapshot-interval:PT10M}")
+    public void scheduledSnapshot() {
+        writeSnapshot();
+    }
+
+    @PreDestroy
+    public void writeSnapshot() {
+        if (snapshotPath == null || !dirty) {
+            return;
+        }
+        try {
+            dirty = false;
+            if (snapshotPath.getParent() != null) {
+                Files.createDirectories(snapshotPath.getParent());
+            }
+            index.writeSnapshot(snapshotPath);
+            log.info("검색 색인 스냅샷 저장 - documents: {}", index.getDocumentCount());
+        } catch (IOException e) {
+            dirty = true;
+            log.error("검색 색인 스냅샷 저장 실패", e);
+        }
+    }
+
+    /**
+     * 이어서 색인할 때 이 ID 다음부터 읽는다 (색인이 비어 있거나 시간순 ID 이전의 게시글뿐이면 처음부터)
+     */
+    private long catchUpAfterId(long maxIndexedId) {
+        if (maxIndexedId == 0) {
+            return 0;
+        }
+        Instant from = SnowflakeIdGenerator.timestampOf(maxIndexedId).minus(catchUpOverlap);
+        return Math.max(0, SnowflakeIdGenerator.minIdAt(from) - 1);
+    }
+}
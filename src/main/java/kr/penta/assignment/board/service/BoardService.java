@@ -1,14 +1,35 @@
 package kr.penta.assignment.board.service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import kr.penta.assignment.board.cache.BoardDetailCache;
+import kr.penta.assignment.board.cache.BoardWatermark;
+import kr.penta.assignment.board.content.BoardContentStore;
+import kr.penta.assignment.board.dto.BoardDto.BatchGetResult;
 import kr.penta.assignment.board.dto.BoardDto.BoardRequest;
 import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.CacheStatsResponse;
 import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import kr.penta.assignment.board.dto.BoardMapper;
 import kr.penta.assignment.board.entity.Board;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import kr.penta.assignment.board.metrics.BoardMetrics;
+import kr.penta.assignment.board.repository.BoardFeedReader;
+import kr.penta.assignment.board.repository.BoardFilter;
 import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.shard.ShardedBoardStore;
 import kr.penta.assignment.board.strategy.LoadStrategy;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -16,8 +37,18 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class BoardService {
 
+    private static final int MAX_BATCH_GET_SIZE = 1000;
+    private static final int IN_QUERY_CHUNK_SIZE = 500;
+
     private final BoardRepository boardRepository;
     private final Map<String, LoadStrategy> loadStrategies;
+    private final BoardCountService boardCountService;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardWatermark boardWatermark;
+    private final BoardMetrics boardMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ShardedBoardStore> shardedBoardStore;
+    private final ObjectProvider<BoardContentStore> boardContentStore;
 
     /**
      * 선택된 전략에 따라 게시글 목록을 조회
@@ -28,46 +59,191 @@ public class BoardService {
      * @return 게시글 목록과 메타 정보
      */
     public LoadResult getBoards(String strategy, int page, int size) {
-        String strategyKey = strategy + "Strategy";
-        LoadStrategy loadStrategy = loadStrategies.get(strategyKey);
+        LoadStrategy loadStrategy = resolveStrategy(strategy);
+        return boardMetrics.recordLoad(strategy, BoardMetrics.PAGE_MODE, false, page, size,
+                () -> loadStrategy.loadBoards(feedReader(), page, size));
+    }
 
-        if (loadStrategy == null) {
-            throw new IllegalArgumentException("지원하지 않는 로딩 전략입니다: " + strategy +
-                    ". 지원 전략: infinite, pagination");
+    /**
+     * 선택된 전략에 따라 커서 기반으로 게시글 목록을 조회
+     *
+     * @param strategy 로딩 전략 (커서는 "infinite" 만 지원)
+     * @param cursor   이전 응답의 nextCursor (빈 문자열이면 첫 페이지)
+     * @param size     페이지 크기
+     * @return 게시글 목록과 다음 커서
+     */
+    public LoadResult getBoards(String strategy, String cursor, int size) {
+        LoadStrategy loadStrategy = resolveStrategy(strategy);
+        return boardMetrics.recordLoad(strategy, BoardMetrics.CURSOR_MODE, false, 0, size,
+                () -> loadStrategy.loadBoards(feedReader(), cursor, size));
+    }
+
+    /**
+     * 선택된 전략으로 조건(작성자, 작성 시간 범위)에 맞는 게시글 목록을 조회
+     *
+     * @param strategy 로딩 전략 ("infinite" 또는 "pagination")
+     * @param filter   조회 조건
+     * @param page     페이지 번호
+     * @param size     페이지 크기
+     * @return 게시글 목록과 메타 정보
+     */
+    public LoadResult getBoards(String strategy, BoardFilter filter, int page, int size) {
+        LoadStrategy loadStrategy = resolveStrategy(strategy);
+        return boardMetrics.recordLoad(strategy, BoardMetrics.PAGE_MODE, filter != null && !filter.isEmpty(), page, size,
+                () -> loadStrategy.loadBoards(feedReader(), filter, page, size));
+    }
+
+    /**
+     * 선택된 전략으로 조건(작성자, 작성 시간 범위)에 맞는 게시글 목록을 커서 기반으로 조회
+     *
+     * @param strategy 로딩 전략 (커서를 지원하는 전략만 가능)
+     * @param filter   조회 조건
+     * @param cursor   이전 응답의 nextCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @param size     페이지 크기
+     * @return 게시글 목록과 다음 커서
+     */
+    public LoadResult getBoards(String strategy, BoardFilter filter, String cursor, int size) {
+        LoadStrategy loadStrategy = resolveStrategy(strategy);
+        return boardMetrics.recordLoad(strategy, BoardMetrics.CURSOR_MODE, filter != null && !filter.isEmpty(), 0, size,
+                () -> loadStrategy.loadBoards(feedReader(), filter, cursor, size));
+    }
+
+    /**
+     * 게시글 목록 응답의 ETag 조회 (DB 조회 없음)
+     *
+     * @return 목록 ETag
+     */
+    public String getListEtag() {
+        return boardWatermark.listEtag();
+    }
+
+    /**
+     * 여러 게시글을 한 번에 조회
+     * <p>
+     * 캐시에 있는 게시글은 그대로 사용하고, 나머지는 IN 쿼리로 한꺼번에 읽는다. 중복 ID 는 처음 나온 위치에 한 번만 포함된다.
+     * 단건 조회와 마찬가지로 모두 캐시 적중이면 DB 커넥션을 잡지 않는다.
+     *
+     * @param ids 게시글 ID 목록
+     * @return 요청 순서대로 정렬된 게시글과 존재하지 않는 ID 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BatchGetResult getBoardsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("조회할 게시글 ID 는 필수입니다");
+        }
+        if (ids.size() > MAX_BATCH_GET_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 게시글은 " + MAX_BATCH_GET_SIZE + "개를 초과할 수 없습니다");
         }
 
-        return loadStrategy.loadBoards(boardRepository, page, size);
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        Map<Long, BoardResponse> found = boardDetailCache.getAll(requested, this::loadByIds);
+
+        List<BoardResponse> boards = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            BoardResponse board = found.get(id);
+            if (board != null) {
+                boards.add(withStoredContent(board));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return BatchGetResult.builder()
+                .boards(boards)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    /**
+     * 게시글 상세 응답의 ETag 조회
+     * <p>
+     * 게시글은 생성 이후 바뀌지 않으므로 ID 만으로 정해진다. 응답은 Accept-Encoding 에 따라 압축되어 바이트가 달라지므로
+     * 약한 ETag 를 쓴다 (Tomcat 은 강한 ETag 가 붙은 응답을 압축하지 않는다).
+     *
+     * @param id 게시글 ID
+     * @return 상세 ETag (W/ 와 따옴표 포함)
+     */
+    public String getDetailEtag(Long id) {
+        return "W/\"B" + id + "\"";
     }
 
     /**
      * 새로운 게시글을 생성
+     * <p>
+     * 본문 저장소를 켜면 큰 본문은 행에 앞부분만 남기고, ID 가 정해진 뒤 같은 트랜잭션 안에서 저장소에 기록한다.
      *
      * @param request 게시글 생성 요청
      * @return 생성된 게시글 정보
      */
     @Transactional
     public BoardResponse createBoard(BoardRequest request) {
-        Board board = Board.builder()
-                .title(request.getTitle())
-                .content(request.getContent())
-                .author(request.getAuthor())
-                .build();
-
-        Board savedBoard = boardRepository.save(board);
-        return convertToResponse(savedBoard);
+        return boardMetrics.recordCreate(() -> {
+            ShardedBoardStore store = shardedBoardStore.getIfAvailable();
+            BoardResponse response;
+            if (store != null) {
+                response = store.create(request);
+            } else {
+                BoardContentStore contentStore = boardContentStore.getIfAvailable();
+                boolean offload = contentStore != null && contentStore.isLarge(request.getContent());
+                Board board = Board.builder()
+                        .title(request.getTitle())
+                        .content(offload ? contentStore.preview(request.getContent()) : request.getContent())
+                        .contentLength(offload ? request.getContent().length() : null)
+                        .author(request.getAuthor())
+                        .build();
+                response = BoardMapper.toResponse(boardRepository.save(board));
+                if (offload) {
+                    contentStore.put(response.getId(), request.getContent());
+                    response = BoardMapper.withContent(response, request.getContent());
+                }
+            }
+            boardDetailCache.invalidate(response.getId());
+            eventPublisher.publishEvent(BoardsCreatedEvent.of(response));
+            return response;
+        });
     }
 
     /**
      * 게시글 ID로 특정 게시글 조회
+     * <p>
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션은 캐시 미스에서 리포지토리 호출에만 적용된다.
      *
      * @param id 게시글 ID
      * @return 게시글 정보
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BoardResponse getBoardById(Long id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + id));
+        return withStoredContent(loadBoard(id));
+    }
 
-        return convertToResponse(board);
+    /**
+     * 게시글 본문을 UTF-8 바이트로 조회
+     * <p>
+     * 본문 저장소로 옮긴 본문은 매핑된 파일 구간을 그대로 돌려주므로 문자열로 디코딩하지 않는다. 저장소에만 남은 (커밋되지 않은)
+     * 본문이 나가지 않도록 행을 먼저 읽고, 행이 옮겼다고 표시한 본문만 저장소에서 찾는다.
+     *
+     * @param id 게시글 ID
+     * @return 본문 바이트 (읽기 전용)
+     * @throws IllegalStateException 옮긴 본문을 저장소에서 찾지 못할 때
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ByteBuffer getBoardContent(Long id) {
+        BoardResponse board = loadBoard(id);
+        BoardContentStore contentStore = boardContentStore.getIfAvailable();
+        if (contentStore != null && board.getContentLength() != null) {
+            return contentStore.find(board);
+        }
+        return StandardCharsets.UTF_8.encode(BoardContentStore.requireInline(board).getContent()).asReadOnlyBuffer();
+    }
+
+    /**
+     * 게시글 상세 캐시 통계 조회
+     *
+     * @return 적중/미스/축출 통계
+     */
+    public CacheStatsResponse getDetailCacheStats() {
+        return boardDetailCache.stats();
     }
 
     /**
@@ -76,16 +252,58 @@ public class BoardService {
      * @return 전체 게시글 수
      */
     public long getTotalBoardCount() {
-        return boardRepository.count();
+        return boardCountService.getCount();
     }
 
-    private BoardResponse convertToResponse(Board board) {
-        return BoardResponse.builder()
-                .id(board.getId())
-                .title(board.getTitle())
-                .content(board.getContent())
-                .author(board.getAuthor())
-                .createdAt(board.getCreatedAt())
-                .build();
+    private LoadStrategy resolveStrategy(String strategy) {
+        String strategyKey = strategy + "Strategy";
+        LoadStrategy loadStrategy = loadStrategies.get(strategyKey);
+
+        if (loadStrategy == null) {
+            throw new IllegalArgumentException("지원하지 않는 로딩 전략입니다: " + strategy +
+                    ". 지원 전략: infinite, pagination");
+        }
+
+        return loadStrategy;
+    }
+
+    /**
+     * 상세 캐시 또는 DB 의 행 (본문 저장소로 옮긴 본문은 앞부분만 들어 있다)
+     */
+    private BoardResponse loadBoard(Long id) {
+        ShardedBoardStore store = shardedBoardStore.getIfAvailable();
+        return boardDetailCache.get(id, key -> store != null
+                        ? store.findById(key)
+                        : boardRepository.findById(key).map(BoardMapper::toResponse))
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + id));
+    }
+
+    private BoardResponse withStoredContent(BoardResponse board) {
+        BoardContentStore contentStore = boardContentStore.getIfAvailable();
+        return contentStore != null ? contentStore.resolve(board) : BoardContentStore.requireInline(board);
+    }
+
+    /**
+     * 목록 조회 대상 (샤딩을 켜면 샤드 병합 조회, 아니면 단일 DB 리포지토리)
+     */
+    private BoardFeedReader feedReader() {
+        ShardedBoardStore store = shardedBoardStore.getIfAvailable();
+        return store != null ? store : boardRepository;
+    }
+
+    private Map<Long, BoardResponse> loadByIds(Set<Long> ids) {
+        ShardedBoardStore store = shardedBoardStore.getIfAvailable();
+        if (store != null) {
+            return store.findAllById(ids);
+        }
+        List<Long> idList = new ArrayList<>(ids);
+        Map<Long, BoardResponse> loaded = new HashMap<>(idList.size() * 2);
+        for (int from = 0; from < idList.size(); from += IN_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, idList.size()));
+            for (Board board : boardRepository.findAllById(chunk)) {
+                loaded.put(board.getId(), BoardMapper.toResponse(board));
+            }
+        }
+        return loaded;
     }
-}
\ No newline at end of file
+}
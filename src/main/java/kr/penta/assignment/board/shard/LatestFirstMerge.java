@@ -0,0 +1,87 @@
+package kr.penta.assignment.board.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+
+/**
+ * 샤드별로 이미 최신순 정렬된 결과를 하나로 합치는 k-way 병합
+ * <p>
+ * 각 샤드 결과의 맨 앞 원소만 힙에 두므로 샤드 수가 k 일 때 원소 하나를 꺼내는 비용은 O(log k) 이고, 필요한 건수를 채우면
+ * 나머지는 보지 않는다.
+ */
+public final class LatestFirstMerge {
+
+    public static final Comparator<BoardSummaryResponse> LATEST_FIRST = Comparator
+            .comparing(BoardSummaryResponse::createdAt)
+            .thenComparing(BoardSummaryResponse::id)
+            .reversed();
+
+    /**
+     * 시간순 ID 만으로 정렬한 결과 (조건 없는 목록)
+     */
+    public static final Comparator<BoardSummaryResponse> NEWEST_ID_FIRST = Comparator
+            .comparing(BoardSummaryResponse::id)
+            .reversed();
+
+    private LatestFirstMerge() {
+    }
+
+    /**
+     * @param sortedRuns 샤드별 최신순 결과
+     * @param order      샤드 결과가 정렬된 순서 ({@link #LATEST_FIRST} 또는 {@link #NEWEST_ID_FIRST})
+     * @param skip       앞에서 건너뛸 건수 (OFFSET)
+     * @param limit      돌려줄 최대 건수
+     * @return 병합된 최신순 결과
+     */
+    public static List<BoardSummaryResponse> merge(List<List<BoardSummaryResponse>> sortedRuns,
+            Comparator<BoardSummaryResponse> order, long skip, int limit) {
+        PriorityQueue<Run> heads = new PriorityQueue<>(Math.max(1, sortedRuns.size()),
+                (left, right) -> order.compare(left.head(), right.head()));
+        for (List<BoardSummaryResponse> run : sortedRuns) {
+            if (!run.isEmpty()) {
+                heads.add(new Run(run));
+            }
+        }
+
+        List<BoardSummaryResponse> merged = new ArrayList<>(limit);
+        long skipped = 0;
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Run run = heads.poll();
+            BoardSummaryResponse next = run.next();
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                merged.add(next);
+            }
+            if (run.hasNext()) {
+                heads.add(run);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Run {
+
+        private final List<BoardSummaryResponse> rows;
+        private int position;
+
+        private Run(List<BoardSummaryResponse> rows) {
+            this.rows = rows;
+        }
+
+        private BoardSummaryResponse head() {
+            return rows.get(position);
+        }
+
+        private BoardSummaryResponse next() {
+            return rows.get(position++);
+        }
+
+        private boolean hasNext() {
+            return position < rows.size();
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package kr.penta.assignment.board.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import kr.penta.assignment.board.dto.BoardDto.BoardRequest;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardMapper;
+import kr.penta.assignment.board.repository.BoardFeedReader;
+import kr.penta.assignment.board.repository.BoardFilter;
+import kr.penta.assignment.common.id.SnowflakeIdGenerator;
+import org.flywaydb.core.Flyway;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * BOARD 를 여러 DB 에 나눠 저장하는 샤드 저장소
+ * <p>
+ * 게시글 ID 는 {@link SnowflakeIdGenerator} 로 미리 만들고, ID 해시로 샤드를 골라 INSERT 한다. 단건/다건 조회는 ID 로 샤드를
+ * 바로 찾아가고, 목록은 모든 샤드에 같은 top-k 쿼리를 가상 스레드로 동시에 보낸 뒤 {@link LatestFirstMerge} 로 합친다.
+ * <p>
+ * 샤드 수를 바꾸면 기존 게시글의 위치가 달라지므로 재분배 없이 shard-urls 의 개수나 순서를 바꾸면 안 된다.
+ */
+public class ShardedBoardStore implements BoardFeedReader, AutoCloseable {
+
+    private static final String DETAIL_COLUMNS = "id, title, content, author, created_at";
+    private static final String INSERT_SQL = "insert into board (" + DETAIL_COLUMNS + ") "
+            + "values (:id, :title, :content, :author, :createdAt)";
+
+    private static final RowMapper<BoardResponse> DETAIL_MAPPER = (rs, rowNum) -> BoardResponse.builder()
+            .id(rs.getLong("id"))
+            .title(rs.getString("title"))
+            .content(rs.getString("content"))
+            .author(rs.getString("author"))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .build();
+
+    private final List<DataSource> dataSources;
+    private final List<NamedParameterJdbcTemplate> shards;
+    private final SnowflakeIdGenerator idGenerator;
+    private final int maxPageWindow;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * @param dataSources   샤드 DataSource (순서가 곧 샤드 번호)
+     * @param idGenerator   게시글 ID 생성기
+     * @param maxPageWindow OFFSET 페이지 조회 시 샤드마다 읽을 수 있는 최대 건수 (offset + size)
+     */
+    public ShardedBoardStore(List<DataSource> dataSources, SnowflakeIdGenerator idGenerator, int maxPageWindow) {
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("샤드가 하나 이상 필요합니다");
+        }
+        this.dataSources = List.copyOf(dataSources);
+        this.shards = dataSources.stream().map(NamedParameterJdbcTemplate::new).toList();
+        this.idGenerator = idGenerator;
+        this.maxPageWindow = maxPageWindow;
+    }
+
+    /**
+     * 모든 샤드에 운영과 같은 Flyway 마이그레이션을 적용한다
+     */
+    public void migrate() {
+        for (DataSource dataSource : dataSources) {
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration")
+                    .load()
+                    .migrate();
+        }
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    /**
+     * 게시글 ID 가 저장되는 샤드 번호 (sequence 가 하위 비트에 몰려 있어 해시를 섞은 뒤 나눈다)
+     *
+     * @param id 게시글 ID
+     * @return 샤드 번호
+     */
+    public int shardOf(long id) {
+        long mixed = id * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(mixed ^ (mixed >>> 32), (long) shards.size());
+    }
+
+    /**
+     * 게시글 하나를 ID 로 고른 샤드에 저장
+     *
+     * @param request 게시글 생성 요청
+     * @return 생성된 게시글
+     */
+    public BoardResponse create(BoardRequest request) {
+        BoardResponse board = newBoard(request, now());
+        shards.get(shardOf(board.getId())).update(INSERT_SQL, insertParameters(board));
+        return board;
+    }
+
+    /**
+     * 게시글 여러 건을 샤드별 JDBC 배치로 동시에 저장
+     *
+     * @param requests 게시글 생성 요청 목록
+     * @return 요청 순서대로 생성된 게시글
+     */
+    public List<BoardResponse> createAll(List<BoardRequest> requests) {
+        LocalDateTime createdAt = now();
+        List<BoardResponse> created = new ArrayList<>(requests.size());
+        Map<Integer, List<SqlParameterSource>> batches = new HashMap<>();
+        for (BoardRequest request : requests) {
+            BoardResponse board = newBoard(request, createdAt);
+            created.add(board);
+            batches.computeIfAbsent(shardOf(board.getId()), shard -> new ArrayList<>())
+                    .add(insertParameters(board));
+        }
+        scatter(shard -> {
+            List<SqlParameterSource> batch = batches.get(shard);
+            if (batch != null) {
+                shards.get(shard).batchUpdate(INSERT_SQL, batch.toArray(SqlParameterSource[]::new));
+            }
+            return null;
+        });
+        return created;
+    }
+
+    public Optional<BoardResponse> findById(Long id) {
+        List<BoardResponse> rows = shards.get(shardOf(id)).query(
+                "select " + DETAIL_COLUMNS + " from board where id = :id",
+                new MapSqlParameterSource("id", id), DETAIL_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 여러 게시글을 샤드별 IN 쿼리로 동시에 조회
+     *
+     * @param ids 게시글 ID 목록
+     * @return ID 별 게시글 (없는 ID 는 빠진다)
+     */
+    public Map<Long, BoardResponse> findAllById(Collection<Long> ids) {
+        Map<Integer, List<Long>> idsByShard = new HashMap<>();
+        for (Long id : ids) {
+            idsByShard.computeIfAbsent(shardOf(id), shard -> new ArrayList<>()).add(id);
+        }
+        Map<Long, BoardResponse> found = new HashMap<>(ids.size() * 2);
+        for (List<BoardResponse> rows : scatter(shard -> {
+            List<Long> shardIds = idsByShard.get(shard);
+            return shardIds == null ? List.<BoardResponse>of() : shards.get(shard).query(
+                    "select " + DETAIL_COLUMNS + " from board where id in (:ids)",
+                    new MapSqlParameterSource("ids", shardIds), DETAIL_MAPPER);
+        })) {
+            rows.forEach(board -> found.put(board.getId(), board));
+        }
+        return found;
+    }
+
+    /**
+     * 전체 게시글 수 (샤드별 COUNT 합)
+     */
+    public long count() {
+        return scatter(shard -> shards.get(shard).getJdbcOperations()
+                .queryForObject("select count(*) from board", Long.class))
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 가장 큰 게시글 ID (게시글이 없으면 0)
+     */
+    public long findMaxId() {
+        return scatter(shard -> shards.get(shard).getJdbcOperations()
+                .queryForObject("select coalesce(max(id), 0) from board", Long.class))
+                .stream().mapToLong(Long::longValue).max().orElse(0L);
+    }
+
+    @Override
+    public List<BoardSummaryResponse> findLatest(int excerptLength, Pageable pageable) {
+        return findLatest(BoardFilter.none(), excerptLength, pageable);
+    }
+
+    @Override
+    public List<BoardSummaryResponse> findLatestBeforeId(Long id, int excerptLength, Pageable pageable) {
+        return findLatestBefore(BoardFilter.none(), null, id, excerptLength, pageable);
+    }
+
+    /**
+     * OFFSET 페이지 조회
+     * <p>
+     * 어느 샤드에서 몇 건이 앞 페이지에 들어갔는지 알 수 없으므로 샤드마다 offset + size 건을 읽어 병합한 뒤 offset 만큼
+     * 건너뛴다. 페이지가 깊어질수록 비용이 커지므로 max-page-window 를 넘는 페이지는 커서 조회를 쓰도록 거절한다.
+     */
+    @Override
+    public List<BoardSummaryResponse> findLatest(BoardFilter filter, int excerptLength, Pageable pageable) {
+        long window = pageable.getOffset() + pageable.getPageSize();
+        if (window > maxPageWindow) {
+            throw new IllegalArgumentException("샤딩 모드에서는 앞쪽 " + maxPageWindow
+                    + "건까지만 페이지 번호로 조회할 수 있습니다. 더 깊은 목록은 커서 조회를 사용하세요");
+        }
+        List<List<BoardSummaryResponse>> runs = scatter(
+                shard -> latest(shard, filter, null, null, excerptLength, (int) window));
+        return LatestFirstMerge.merge(runs, order(filter), pageable.getOffset(), pageable.getPageSize());
+    }
+
+    /**
+     * 커서 조회 (샤드마다 커서 이후 size 건만 읽어 병합하므로 깊이와 무관, 조건이 없으면 createdAt 은 쓰지 않는다)
+     */
+    @Override
+    public List<BoardSummaryResponse> findLatestBefore(BoardFilter filter, LocalDateTime createdAt, Long id,
+            int excerptLength, Pageable pageable) {
+        int limit = pageable.getPageSize();
+        List<List<BoardSummaryResponse>> runs = scatter(
+                shard -> latest(shard, filter, createdAt, id, excerptLength, limit));
+        return LatestFirstMerge.merge(runs, order(filter), 0, limit);
+    }
+
+    @Override
+    public long countMatching(BoardFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return count();
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        String where = where(filter, null, parameters);
+        return scatter(shard -> shards.get(shard).queryForObject(
+                "select count(*) from board" + where, parameters, Long.class))
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof HikariDataSource pool) {
+                pool.close();
+            }
+        }
+    }
+
+    /**
+     * 샤드 하나의 top-k 조회 (조건이 없으면 시간순 ID 만으로 정렬/seek 해 기본 키를 역순으로 읽는다)
+     */
+    private List<BoardSummaryResponse> latest(int shard, BoardFilter filter, LocalDateTime createdAt, Long id,
+            int excerptLength, int limit) {
+        boolean unfiltered = filter == null || filter.isEmpty();
+        MapSqlParameterSource parameters = new MapSqlParameterSource("limit", limit);
+        if (id != null) {
+            parameters.addValue("id", id);
+        }
+        if (createdAt != null) {
+            parameters.addValue("createdAt", createdAt);
+        }
+        // excerptLength 는 설정값(int)이라 리터럴로 넣어도 실행 계획이 하나로 유지된다
+        // substring 단위가 DB 마다 달라 두 배를 읽고 BoardMapper.withExcerpts 로 자른다 (BoardRepository.SUMMARY_SELECT 참고)
+        String sql = "select id, title, author, created_at, "
+                + (excerptLength > 0 ? "substring(content, 1, " + 2 * excerptLength + ")" : "null")
+                + " as excerpt from board"
+                + (unfiltered
+                        ? (id != null ? " where id < :id" : "") + " order by id desc"
+                        : where(filter, createdAt, parameters) + " order by created_at desc, id desc")
+                + " limit :limit";
+        return BoardMapper.withExcerpts(shards.get(shard).query(sql, parameters, ShardedBoardStore::mapSummary),
+                excerptLength);
+    }
+
+    private static Comparator<BoardSummaryResponse> order(BoardFilter filter) {
+        return filter == null || filter.isEmpty() ? LatestFirstMerge.NEWEST_ID_FIRST : LatestFirstMerge.LATEST_FIRST;
+    }
+
+    private static String where(BoardFilter filter, LocalDateTime createdAt, MapSqlParameterSource parameters) {
+        List<String> conditions = new ArrayList<>(3);
+        if (filter != null && filter.hasAuthor()) {
+            conditions.add("author = :author");
+            parameters.addValue("author", filter.author());
+        }
+        if (filter != null && !filter.isEmpty()) {
+            conditions.add("created_at >= :from and created_at < :to");
+            parameters.addValue("from", filter.fromOrMin()).addValue("to", filter.toOrMax());
+        }
+        if (createdAt != null) {
+            conditions.add("(created_at, id) < (:createdAt, :id)");
+        }
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+
+    private static BoardSummaryResponse mapSummary(ResultSet rs, int rowNum) throws SQLException {
+        return new BoardSummaryResponse(rs.getLong("id"), rs.getString("title"), rs.getString("author"),
+                rs.getObject("created_at", LocalDateTime.class), rs.getString("excerpt"));
+    }
+
+    private BoardResponse newBoard(BoardRequest request, LocalDateTime createdAt) {
+        return BoardResponse.builder()
+                .id(idGenerator.nextId())
+                .title(request.getTitle())
+                .content(request.getContent())
+                .author(request.getAuthor())
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static MapSqlParameterSource insertParameters(BoardResponse board) {
+        return new MapSqlParameterSource()
+                .addValue("id", board.getId())
+                .addValue("title", board.getTitle())
+                .addValue("content", board.getContent())
+                .addValue("author", board.getAuthor())
+                .addValue("createdAt", board.getCreatedAt());
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * 샤드마다 작업을 가상 스레드로 동시에 실행하고 샤드 순서대로 결과를 모은다 (샤드가 하나면 호출 스레드에서 실행)
+     */
+    private <T> List<T> scatter(Function<Integer, T> task) {
+        if (shards.size() == 1) {
+            return Collections.singletonList(task.apply(0));
+        }
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (int shard = 0; shard < shards.size(); shard++) {
+            int target = shard;
+            futures.add(executor.submit(() -> task.apply(target)));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(join(future));
+        }
+        return results;
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 조회가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("샤드 조회에 실패했습니다", e.getCause());
+        }
+    }
+}
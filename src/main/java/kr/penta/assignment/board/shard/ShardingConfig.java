@@ -0,0 +1,55 @@
+package kr.penta.assignment.board.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import kr.penta.assignment.common.id.SnowflakeIdGenerator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 샤드 저장소 설정 (board.sharding.enabled=true 일 때만)
+ * <p>
+ * shard-urls 마다 커넥션 풀을 하나씩 만들고 기동 시 각 샤드에 마이그레이션을 적용한다. 샤드 풀은 저장소 안에만 두어 기본
+ * DataSource(JPA) 와 섞이지 않게 한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ShardedBoardStore shardedBoardStore(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            SnowflakeIdGenerator snowflakeIdGenerator,
+            @Value("${board.sharding.shard-urls}") String shardUrls,
+            @Value("${board.sharding.username:${spring.datasource.username:}}") String username,
+            @Value("${board.sharding.password:${spring.datasource.password:}}") String password,
+            @Value("${board.sharding.pool-size:10}") int poolSize,
+            @Value("${board.sharding.max-page-window:10000}") int maxPageWindow) {
+        List<String> urls = Arrays.stream(shardUrls.split(",")).map(String::trim).filter(url -> !url.isEmpty())
+                .toList();
+        List<DataSource> shards = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource shard = new HikariDataSource();
+            shard.setPoolName("board-shard-" + i);
+            shard.setJdbcUrl(urls.get(i));
+            shard.setUsername(username);
+            shard.setPassword(password);
+            shard.setMaximumPoolSize(poolSize);
+            meterRegistry.ifAvailable(
+                    registry -> shard.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            shards.add(shard);
+        }
+
+        ShardedBoardStore store = new ShardedBoardStore(shards, snowflakeIdGenerator, maxPageWindow);
+        store.migrate();
+        return store;
+    }
+}
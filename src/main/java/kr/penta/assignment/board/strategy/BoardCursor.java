@@ -0,0 +1,45 @@
+package kr.penta.assignment.board.strategy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+
+/**
+ * 무한스크롤 커서 (createdAt, id)
+ * <p>
+ * 클라이언트에는 Base64 URL-safe 로 인코딩된 불투명(opaque) 문자열로만 노출된다.
+ */
+public record BoardCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static BoardCursor from(BoardSummaryResponse board) {
+        return new BoardCursor(board.createdAt(), board.id());
+    }
+
+    /**
+     * 커서 문자열을 해석
+     *
+     * @param value 인코딩된 커서
+     * @return 커서
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static BoardCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new BoardCursor(LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("올바르지 않은 커서입니다: " + value);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
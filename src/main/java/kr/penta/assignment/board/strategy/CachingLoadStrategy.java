@@ -0,0 +1,71 @@
+package kr.penta.assignment.board.strategy;
+
+import kr.penta.assignment.board.cache.LoadResultCache;
+import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import kr.penta.assignment.board.repository.BoardFeedReader;
+import kr.penta.assignment.board.repository.BoardFilter;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 앞쪽 페이지 결과를 {@link LoadResultCache} 에 보관하는 로딩 전략 데코레이터
+ * <p>
+ * 캐시 대상이 아닌 페이지, 첫 페이지 이후의 커서 요청, 조건 조회는 위임 전략으로 그대로 전달한다.
+ */
+public class CachingLoadStrategy implements LoadStrategy {
+
+    private static final String PAGE_MODE = "page";
+    private static final String CURSOR_MODE = "cursor";
+
+    private final String name;
+    private final LoadStrategy delegate;
+    private final ObjectProvider<LoadResultCache> cacheProvider;
+
+    public CachingLoadStrategy(String name, LoadStrategy delegate, ObjectProvider<LoadResultCache> cacheProvider) {
+        this.name = name;
+        this.delegate = delegate;
+        this.cacheProvider = cacheProvider;
+    }
+
+    @Override
+    public LoadResult loadBoards(BoardFeedReader repository, int page, int size) {
+        LoadResultCache cache = cacheProvider.getObject();
+        if (!cache.isCacheable(page)) {
+            return delegate.loadBoards(repository, page, size);
+        }
+        return cache.get(name, PAGE_MODE, page, size, () -> delegate.loadBoards(repository, page, size));
+    }
+
+    @Override
+    public LoadResult loadBoards(BoardFeedReader repository, String cursor, int size) {
+        LoadResultCache cache = cacheProvider.getObject();
+        if ((cursor != null && !cursor.isBlank()) || !cache.isCacheable(0)) {
+            return delegate.loadBoards(repository, cursor, size);
+        }
+        return cache.get(name, CURSOR_MODE, 0, size, () -> delegate.loadBoards(repository, cursor, size));
+    }
+
+    @Override
+    public LoadResult loadBoards(BoardFeedReader repository, BoardFilter filter, int page, int size) {
+        if (filter == null || filter.isEmpty()) {
+            return loadBoards(repository, page, size);
+        }
+        return delegate.loadBoards(repository, filter, page, size);
+    }
+
+    @Override
+    public LoadResult loadBoards(BoardFeedReader repository, BoardFilter filter, String cursor, int size) {
+        if (filter == null || filter.isEmpty()) {
+            return loadBoards(repository, cursor, size);
+        }
+        return delegate.loadBoards(repository, filter, cursor, size);
+    }
+
+    @Override
+    public String getStrategyName() {
+        return delegate.getStrategyName();
+    }
+
+    public LoadStrategy getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,29 @@
+package kr.penta.assignment.board.strategy;
+
+import kr.penta.assignment.board.cache.LoadResultCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등록된 모든 {@link LoadStrategy} 빈을 {@link CachingLoadStrategy} 로 감싼다.
+ * <p>
+ * 캐시 빈은 BeanPostProcessor 초기화 시점에 만들어지지 않도록 ObjectProvider 로 지연 조회한다.
+ */
+@Component
+public class CachingLoadStrategyPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<LoadResultCache> cacheProvider;
+
+    public CachingLoadStrategyPostProcessor(ObjectProvider<LoadResultCache> cacheProvider) {
+        this.cacheProvider = cacheProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof LoadStrategy strategy && !(bean instanceof CachingLoadStrategy)) {
+            return new CachingLoadStrategy(beanName, strategy, cacheProvider);
+        }
+        return bean;
+    }
+}
@@ -1,45 +1,107 @@
 package kr.penta.assignment.board.strategy;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.cache.HotFeed;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
 import kr.penta.assignment.board.dto.BoardDto.LoadResult;
-import kr.penta.assignment.board.entity.Board;
-import kr.penta.assignment.board.repository.BoardRepository;
-import org.springframework.data.domain.Page;
+import kr.penta.assignment.board.repository.BoardFeedReader;
+import kr.penta.assignment.board.repository.BoardFilter;
+import kr.penta.assignment.board.service.BoardCountService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 @Component("infiniteStrategy")
 public class InfiniteScrollStrategy implements LoadStrategy {
 
+    private final BoardCountService boardCountService;
+    private final HotFeed hotFeed;
+    private final int excerptLength;
+
+    public InfiniteScrollStrategy(BoardCountService boardCountService, HotFeed hotFeed,
+            @Value("${board.list.excerpt-length:100}") int excerptLength) {
+        this.boardCountService = boardCountService;
+        this.hotFeed = hotFeed;
+        this.excerptLength = excerptLength;
+    }
+
     @Override
-    public LoadResult loadBoards(BoardRepository repository, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Board> boardPage = repository.findAll(pageable);
+    public LoadResult loadBoards(BoardFeedReader repository, int page, int size) {
+        return loadBoards(repository, BoardFilter.none(), page, size);
+    }
 
-        List<BoardResponse> boards = boardPage.getContent().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    /**
+     * 전체 목록의 건수는 {@link BoardCountService} 에서, 조건 조회의 건수는 인덱스 범위 COUNT 로 얻는다. 전체 목록 중
+     * {@link HotFeed} 안에 들어오는 페이지는 DB 를 거치지 않는다.
+     */
+    @Override
+    public LoadResult loadBoards(BoardFeedReader repository, BoardFilter filter, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        List<BoardSummaryResponse> content;
+        long totalElements;
+        if (filter == null || filter.isEmpty()) {
+            content = hotFeed.latest(pageable.getOffset(), size)
+                    .orElseGet(() -> repository.findLatest(excerptLength, pageable));
+            totalElements = boardCountService.getCount();
+        } else {
+            content = repository.findLatest(filter, excerptLength, pageable);
+            totalElements = repository.countMatching(filter);
+        }
+        int totalPages = (int) ((totalElements + size - 1) / size);
+        boolean hasNext = page + 1 < totalPages;
 
         return LoadResult.builder()
-                .boards(boards)
-                .hasNext(boardPage.hasNext())
-                .totalElements(boardPage.getTotalElements())
+                .boards(content)
+                .hasNext(hasNext)
+                .totalElements(totalElements)
                 .currentPage(page)
                 .strategy("infinite")
+                .nextCursor(hasNext && !content.isEmpty() ? nextCursor(content) : null)
                 .build();
     }
 
-    private BoardResponse convertToResponse(Board board) {
-        return BoardResponse.builder()
-                .id(board.getId())
-                .title(board.getTitle())
-                .content(board.getContent())
-                .author(board.getAuthor())
-                .createdAt(board.getCreatedAt())
+    @Override
+    public LoadResult loadBoards(BoardFeedReader repository, String cursor, int size) {
+        return loadBoards(repository, BoardFilter.none(), cursor, size);
+    }
+
+    /**
+     * keyset 으로 다음 페이지를 조회한다.
+     * <p>
+     * size + 1 건을 조회해 초과분 존재 여부로 hasNext 를 판단하므로 COUNT 쿼리가 발생하지 않는다. 조건이 없으면 시간순 ID
+     * 만으로 기본 키에서 seek 하고(커서가 {@link HotFeed} 안이면 DB 없이), 조건이 있으면 (createdAt, id) 또는
+     * (author, createdAt, id) 인덱스에서 seek 한다.
+     */
+    @Override
+    public LoadResult loadBoards(BoardFeedReader repository, BoardFilter filter, String cursor, int size) {
+        boolean unfiltered = filter == null || filter.isEmpty();
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<BoardSummaryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = unfiltered
+                    ? hotFeed.latest(0, size + 1).orElseGet(() -> repository.findLatest(excerptLength, limit))
+                    : repository.findLatest(filter, excerptLength, limit);
+        } else {
+            BoardCursor decoded = BoardCursor.decode(cursor);
+            rows = unfiltered
+                    ? hotFeed.latestBefore(decoded.id(), size + 1)
+                            .orElseGet(() -> repository.findLatestBeforeId(decoded.id(), excerptLength, limit))
+                    : repository.findLatestBefore(filter, decoded.createdAt(), decoded.id(), excerptLength, limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<BoardSummaryResponse> content = hasNext ? rows.subList(0, size) : rows;
+
+        return LoadResult.builder()
+                .boards(content)
+                .hasNext(hasNext)
+                .strategy("infinite")
+                .nextCursor(hasNext ? nextCursor(content) : null)
                 .build();
     }
-}
\ No newline at end of file
+
+    private String nextCursor(List<BoardSummaryResponse> content) {
+        return BoardCursor.from(content.get(content.size() - 1)).encode();
+    }
+}
@@ -1,7 +1,8 @@
 package kr.penta.assignment.board.strategy;
 
 import kr.penta.assignment.board.dto.BoardDto.LoadResult;
-import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.repository.BoardFeedReader;
+import kr.penta.assignment.board.repository.BoardFilter;
 
 /**
  * 게시글 로딩 전략을 정의하는 인터페이스 전략패턴(Strategy Pattern)의 핵심 인터페이스
@@ -11,12 +12,56 @@ public interface LoadStrategy {
     /**
      * 게시글 목록을 로드하는 전략 메서드
      *
-     * @param repository 게시글 리포지토리
+     * @param repository 게시글 목록 조회 (단일 DB 리포지토리 또는 샤드 병합 조회)
      * @param page       페이지 번호 (0부터 시작)
      * @param size       페이지 크기
      * @return 로드된 게시글 목록과 메타 정보
      */
-    LoadResult loadBoards(BoardRepository repository, int page, int size);
+    LoadResult loadBoards(BoardFeedReader repository, int page, int size);
+
+    /**
+     * 커서 기반으로 게시글 목록을 로드하는 전략 메서드
+     *
+     * @param repository 게시글 목록 조회 (단일 DB 리포지토리 또는 샤드 병합 조회)
+     * @param cursor     이전 응답의 nextCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @param size       페이지 크기
+     * @return 로드된 게시글 목록과 다음 커서
+     */
+    default LoadResult loadBoards(BoardFeedReader repository, String cursor, int size) {
+        throw new IllegalArgumentException("커서 기반 조회를 지원하지 않는 전략입니다: " + getStrategyName());
+    }
+
+    /**
+     * 조건에 맞는 게시글 목록을 로드하는 전략 메서드
+     *
+     * @param repository 게시글 목록 조회 (단일 DB 리포지토리 또는 샤드 병합 조회)
+     * @param filter     조회 조건 (작성자, 작성 시간 범위)
+     * @param page       페이지 번호 (0부터 시작)
+     * @param size       페이지 크기
+     * @return 로드된 게시글 목록과 메타 정보
+     */
+    default LoadResult loadBoards(BoardFeedReader repository, BoardFilter filter, int page, int size) {
+        if (filter == null || filter.isEmpty()) {
+            return loadBoards(repository, page, size);
+        }
+        throw new IllegalArgumentException("조건 조회를 지원하지 않는 전략입니다: " + getStrategyName());
+    }
+
+    /**
+     * 조건에 맞는 게시글 목록을 커서 기반으로 로드하는 전략 메서드
+     *
+     * @param repository 게시글 목록 조회 (단일 DB 리포지토리 또는 샤드 병합 조회)
+     * @param filter     조회 조건 (작성자, 작성 시간 범위), 이전 요청과 같아야 한다
+     * @param cursor     이전 응답의 nextCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @param size       페이지 크기
+     * @return 로드된 게시글 목록과 다음 커서
+     */
+    default LoadResult loadBoards(BoardFeedReader repository, BoardFilter filter, String cursor, int size) {
+        if (filter == null || filter.isEmpty()) {
+            return loadBoards(repository, cursor, size);
+        }
+        throw new IllegalArgumentException("조건 조회를 지원하지 않는 전략입니다: " + getStrategyName());
+    }
 
     /**
      * 전략의 이름을 반환
@@ -1,47 +1,64 @@
 package kr.penta.assignment.board.strategy;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.cache.HotFeed;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
 import kr.penta.assignment.board.dto.BoardDto.LoadResult;
-import kr.penta.assignment.board.entity.Board;
-import kr.penta.assignment.board.repository.BoardRepository;
-import org.springframework.data.domain.Page;
+import kr.penta.assignment.board.repository.BoardFeedReader;
+import kr.penta.assignment.board.repository.BoardFilter;
+import kr.penta.assignment.board.service.BoardCountService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 @Component("paginationStrategy")
 public class PaginationStrategy implements LoadStrategy {
 
+    private final BoardCountService boardCountService;
+    private final HotFeed hotFeed;
+    private final int excerptLength;
+
+    public PaginationStrategy(BoardCountService boardCountService, HotFeed hotFeed,
+            @Value("${board.list.excerpt-length:100}") int excerptLength) {
+        this.boardCountService = boardCountService;
+        this.hotFeed = hotFeed;
+        this.excerptLength = excerptLength;
+    }
+
     @Override
-    public LoadResult loadBoards(BoardRepository repository, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Board> boardPage = repository.findAll(pageable);
+    public LoadResult loadBoards(BoardFeedReader repository, int page, int size) {
+        return loadBoards(repository, BoardFilter.none(), page, size);
+    }
 
-        List<BoardResponse> boards = boardPage.getContent().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    /**
+     * 전체 목록의 건수는 {@link BoardCountService} 에서, 조건 조회의 건수는 인덱스 범위 COUNT 로 얻는다. 전체 목록 중
+     * {@link HotFeed} 안에 들어오는 페이지는 DB 를 거치지 않는다.
+     */
+    @Override
+    public LoadResult loadBoards(BoardFeedReader repository, BoardFilter filter, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        List<BoardSummaryResponse> content;
+        long totalElements;
+        if (filter == null || filter.isEmpty()) {
+            content = hotFeed.latest(pageable.getOffset(), size)
+                    .orElseGet(() -> repository.findLatest(excerptLength, pageable));
+            totalElements = boardCountService.getCount();
+        } else {
+            content = repository.findLatest(filter, excerptLength, pageable);
+            totalElements = repository.countMatching(filter);
+        }
+        int totalPages = (int) ((totalElements + size - 1) / size);
+        boolean hasNext = page + 1 < totalPages;
 
         return LoadResult.builder()
-                .boards(boards)
-                .hasNext(boardPage.hasNext())
-                .hasPrevious(boardPage.hasPrevious())
-                .totalElements(boardPage.getTotalElements())
-                .totalPages(boardPage.getTotalPages())
+                .boards(content)
+                .hasNext(hasNext)
+                .hasPrevious(page > 0)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
                 .currentPage(page)
                 .strategy("pagination")
                 .build();
     }
-
-    private BoardResponse convertToResponse(Board board) {
-        return BoardResponse.builder()
-                .id(board.getId())
-                .title(board.getTitle())
-                .content(board.getContent())
-                .author(board.getAuthor())
-                .createdAt(board.getCreatedAt())
-                .build();
-    }
-}
\ No newline at end of file
+}
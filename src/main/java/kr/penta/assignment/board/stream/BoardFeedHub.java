@@ -0,0 +1,234 @@
+package kr.penta.assignment.board.stream;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardMapper;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 새 게시글 SSE 팬아웃 허브
+ * <p>
+ * 구독자마다 고정 크기 버퍼를 두고, 전송은 구독자별로 가상 스레드 하나가 버퍼를 비우면서 수행한다. 버퍼가 가득 찬 느린
+ * 구독자는 연결을 끊어(slow-consumer drop) 다른 구독자에게 영향을 주지 않는다. 대기 중인 구독자는 스레드를 점유하지 않는다.
+ * <p>
+ * 최근 이벤트는 링 버퍼에 보관해 재연결 시 Last-Event-ID 이후 이벤트를 다시 보내며, 링 밖으로 밀려난 경우나 서버가
+ * 재시작된 경우(이벤트 ID 의 epoch 불일치)에는 목록을 새로 받으라는 reset 이벤트를 보낸다.
+ */
+@Component
+@Slf4j
+public class BoardFeedHub {
+
+    private static final String BOARD_EVENT = "board";
+    private static final String RESET_EVENT = "reset";
+
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService senders;
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE);
+
+    private final FeedEvent[] ring;
+    private final ReentrantLock ringLock = new ReentrantLock();
+    private final int bufferSize;
+    private final long emitterTimeoutMillis;
+    private final int excerptLength;
+
+    public BoardFeedHub(@Value("${board.stream.replay-size:256}") int replaySize,
+            @Value("${board.stream.buffer-size:64}") int bufferSize,
+            @Value("${board.stream.emitter-timeout:PT30M}") Duration emitterTimeout,
+            @Value("${board.list.excerpt-length:100}") int excerptLength) {
+        this(replaySize, bufferSize, emitterTimeout, excerptLength, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * @param senders 구독자 버퍼를 비우는 전송 작업을 실행할 실행기 (테스트에서 전송 시점을 제어할 때 사용)
+     */
+    BoardFeedHub(int replaySize, int bufferSize, Duration emitterTimeout, int excerptLength, ExecutorService senders) {
+        this.senders = senders;
+        this.ring = new FeedEvent[replaySize];
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.excerptLength = excerptLength;
+    }
+
+    /**
+     * 새 구독자를 등록
+     *
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (없으면 null)
+     * @return SSE 응답
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        long id = subscriberIds.incrementAndGet();
+        Subscriber subscriber = new Subscriber(id, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(() -> subscribers.remove(id));
+        emitter.onTimeout(() -> subscribers.remove(id));
+        emitter.onError(e -> subscribers.remove(id));
+
+        ringLock.lock();
+        try {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.put(id, subscriber);
+        } finally {
+            ringLock.unlock();
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardsCreated(BoardsCreatedEvent event) {
+        for (BoardResponse board : event.boards()) {
+            publish(BoardMapper.toSummary(board, excerptLength));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        subscribers.values().forEach(subscriber -> offer(subscriber, FeedEvent.HEARTBEAT));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+        senders.shutdown();
+    }
+
+    /**
+     * 링 기록과 팬아웃을 같은 락 안에서 수행해, 구독 시점의 재전송과 실시간 전송 사이에 누락이나 중복이 없게 한다.
+     * 락 안에서는 버퍼에 넣기만 하고 실제 전송은 구독자별 가상 스레드가 수행한다.
+     */
+    private void publish(BoardSummaryResponse board) {
+        ringLock.lock();
+        try {
+            FeedEvent event = new FeedEvent(sequence.incrementAndGet(), board);
+            ring[(int) (event.sequence() % ring.length)] = event;
+            subscribers.values().forEach(subscriber -> offer(subscriber, event));
+        } finally {
+            ringLock.unlock();
+        }
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        long latest = sequence.get();
+        long missed = latest - lastSequence;
+        if (lastSequence < 0 || missed < 0 || missed > ring.length || missed >= bufferSize) {
+            // reset 의 ID 는 전송 시점이 아니라 지금(락 안) 기준이어야 뒤이어 버퍼에 들어올 이벤트보다 앞선다
+            offer(subscriber, FeedEvent.reset(latest));
+            return;
+        }
+        for (long seq = lastSequence + 1; seq <= latest; seq++) {
+            offer(subscriber, ring[(int) (seq % ring.length)]);
+        }
+    }
+
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.indexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void offer(Subscriber subscriber, FeedEvent event) {
+        if (!subscriber.buffer().offer(event)) {
+            log.warn("느린 SSE 구독자 연결 종료 - subscriber: {}", subscriber.id());
+            subscribers.remove(subscriber.id());
+            subscriber.emitter().complete();
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.buffer().isEmpty() && subscriber.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            FeedEvent event;
+            while ((event = subscriber.buffer().poll()) != null) {
+                send(subscriber.emitter(), event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber.id());
+            subscriber.buffer().clear();
+            return;
+        } finally {
+            subscriber.draining().set(false);
+        }
+        schedule(subscriber);
+    }
+
+    private void send(SseEmitter emitter, FeedEvent event) throws IOException {
+        if (event == FeedEvent.HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } else if (event.isReset()) {
+            emitter.send(SseEmitter.event().id(epoch + "-" + event.sequence()).name(RESET_EVENT).data(""));
+        } else {
+            emitter.send(SseEmitter.event()
+                    .id(epoch + "-" + event.sequence())
+                    .name(BOARD_EVENT)
+                    .data(event.board(), MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private record Subscriber(long id, SseEmitter emitter, BlockingQueue<FeedEvent> buffer, AtomicBoolean draining) {
+
+        Subscriber(long id, SseEmitter emitter, BlockingQueue<FeedEvent> buffer) {
+            this(id, emitter, buffer, new AtomicBoolean());
+        }
+    }
+
+    /**
+     * 버퍼에 넣는 이벤트 (board 가 있으면 게시글, 없으면 하트비트 또는 그 시점까지의 sequence 를 담은 reset)
+     */
+    private record FeedEvent(long sequence, BoardSummaryResponse board) {
+
+        static final FeedEvent HEARTBEAT = new FeedEvent(-1, null);
+
+        static FeedEvent reset(long sequence) {
+            return new FeedEvent(sequence, null);
+        }
+
+        boolean isReset() {
+            return board == null && sequence >= 0;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package kr.penta.assignment.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+/**
+ * 자주 응답하는 타입을 미리 만들어 둔 ObjectWriter 로 직렬화하는 JSON 변환기 (쓰기 전용)
+ * <p>
+ * 기본 Jackson 변환기는 요청마다 타입을 해석해 ObjectWriter 를 새로 만든다. 목록/상세 응답처럼 타입이 고정된 경우 이 과정을
+ * 건너뛰고 응답 스트림에 바로 쓴다. 등록되지 않은 타입은 기본 변환기가 처리한다.
+ */
+public class CachedJsonWriterConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final Map<Class<?>, ObjectWriter> writers;
+
+    public CachedJsonWriterConverter(ObjectMapper objectMapper, Set<Class<?>> types) {
+        super(MediaType.APPLICATION_JSON);
+        this.writers = types.stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), objectMapper::writerFor));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return writers.containsKey(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("쓰기 전용 변환기입니다", inputMessage);
+    }
+
+    /**
+     * 응답 스트림은 컨테이너가 닫으므로 Jackson 이 닫지 않게 감싼다 (AUTO_CLOSE_TARGET).
+     */
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        writers.get(value.getClass()).writeValue(StreamUtils.nonClosing(outputMessage.getBody()), value);
+    }
+}
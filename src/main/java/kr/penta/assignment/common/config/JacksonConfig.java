@@ -0,0 +1,30 @@
+package kr.penta.assignment.common.config;
+
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 설정
+ * <p>
+ * Blackbird 는 getter/생성자 호출을 리플렉션 대신 LambdaMetafactory 로 만든 호출로 바꾼다. LocalDateTime 은 설정(feature)
+ * 확인 없이 항상 ISO-8601 문자열로 쓰는 직렬화기를 고정한다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer isoLocalDateTimeCustomizer() {
+        return builder -> builder.serializerByType(LocalDateTime.class,
+                new LocalDateTimeSerializer(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    }
+}
@@ -0,0 +1,62 @@
+package kr.penta.assignment.common.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 표본 요청 로그
+ * <p>
+ * 요청마다 로그를 남기는 대신 sample-rate 비율의 요청만 메서드, 경로, 상태 코드, 처리 시간을 한 줄로 남긴다. 표본이 아닌
+ * 요청은 난수 하나만 뽑고 끝나므로 요청 경로에 로그 비용이 거의 남지 않는다. 5xx 응답은 표본과 관계없이 남긴다.
+ */
+@Component
+@Slf4j
+public class RequestLoggingInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestLoggingInterceptor.class.getName() + ".start";
+
+    private final double sampleRate;
+
+    public RequestLoggingInterceptor(@Value("${board.logging.request-sample-rate:0.01}") double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("board.logging.request-sample-rate 는 0 과 1 사이여야 합니다: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        int status = response.getStatus();
+        if (status < 500 && !sampled()) {
+            return;
+        }
+        if (log.isInfoEnabled()) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            String query = request.getQueryString();
+            log.info("{} {}{} -> {} ({} ms)", request.getMethod(), request.getRequestURI(),
+                    query != null ? "?" + query : "", status, elapsedMillis);
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
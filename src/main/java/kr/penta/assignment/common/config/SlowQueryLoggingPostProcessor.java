@@ -0,0 +1,67 @@
+package kr.penta.assignment.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import kr.penta.assignment.common.datasource.ReplicaRoutingDataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.listener.logging.SLF4JQueryLoggingListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 느린 SQL 만 바인드 값과 함께 기록하도록 DataSource 를 감싼다
+ * <p>
+ * show-sql 이나 org.hibernate.SQL DEBUG 처럼 모든 쿼리를 기록하지 않고, 실행이 끝난 뒤 걸린 시간이 threshold 이상인 쿼리만
+ * kr.penta.assignment.sql.slow 로거에 WARN 으로 남긴다. 별도 타이머 스레드 없이 실행 직후 경과 시간만 비교한다.
+ * <p>
+ * replica 라우팅을 켜면 바깥의 LazyConnectionDataSourceProxy 만 감싸고 안쪽 라우팅 DataSource 는 건너뛰어 한 번만 기록한다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.logging.slow-query.enabled", havingValue = "true")
+public class SlowQueryLoggingPostProcessor implements BeanPostProcessor {
+
+    private static final String LOGGER_NAME = "kr.penta.assignment.sql.slow";
+
+    private final long thresholdMillis;
+
+    public SlowQueryLoggingPostProcessor(@Value("${board.logging.slow-query.threshold:PT0.2S}") Duration threshold) {
+        this.thresholdMillis = threshold.toMillis();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                && !(bean instanceof ReplicaRoutingDataSource)) {
+            SlowQueryListener listener = new SlowQueryListener(thresholdMillis);
+            listener.setLogLevel(SLF4JLogLevel.WARN);
+            listener.setLogger(LOGGER_NAME);
+            return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .listener(listener)
+                    .build();
+        }
+        return bean;
+    }
+
+    private static class SlowQueryListener extends SLF4JQueryLoggingListener {
+
+        private final long thresholdMillis;
+
+        SlowQueryListener(long thresholdMillis) {
+            this.thresholdMillis = thresholdMillis;
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (execInfo.getElapsedTime() >= thresholdMillis) {
+                super.afterQuery(execInfo, queryInfoList);
+            }
+        }
+    }
+}
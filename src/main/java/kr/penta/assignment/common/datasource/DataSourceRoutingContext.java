@@ -0,0 +1,52 @@
+package kr.penta.assignment.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 조회를 primary 로 고정하는 표식
+ * <p>
+ * 읽기 전용 트랜잭션은 기본적으로 replica 로 가지만, 방금 글을 쓴 클라이언트의 요청이나 복제 지연이 있으면 안 되는 내부
+ * 조회(게시글 수 재동기화 등)는 이 표식으로 primary 를 읽게 한다. 라우팅을 켜지 않은 환경에서는 아무 효과가 없다.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    /**
+     * primary 고정 여부를 바꾸고 이전 값을 돌려준다. 호출한 쪽은 finally 에서 이전 값으로 되돌려야 한다.
+     *
+     * @param forced primary 고정 여부
+     * @return 이전 값
+     */
+    public static boolean setPrimaryForced(boolean forced) {
+        boolean previous = isPrimaryForced();
+        if (forced) {
+            PRIMARY_FORCED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_FORCED.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * 작업 동안만 primary 를 읽는다
+     *
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean previous = setPrimaryForced(true);
+        try {
+            return action.get();
+        } finally {
+            setPrimaryForced(previous);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package kr.penta.assignment.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 방금 쓴 클라이언트가 자기 글을 읽도록 primary 로 고정하는 필터
+ * <p>
+ * 쓰기 요청(GET, HEAD, OPTIONS 외)에는 window 동안 유효한 쿠키를 내려 주고, 그 쿠키가 살아 있는 요청은 읽기도 primary 에서
+ * 처리한다. 복제 지연이 window 보다 짧다면 글을 쓴 직후 목록이나 상세를 다시 읽어도 자기 글이 빠지지 않는다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "board-primary-until";
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = isWrite(request);
+        if (write && windowMillis > 0) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + windowMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, Duration.ofMillis(windowMillis).toSeconds()));
+            response.addCookie(cookie);
+        }
+        if (!write && !wroteRecently(request, now)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        boolean previous = DataSourceRoutingContext.setPrimaryForced(true);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            DataSourceRoutingContext.setPrimaryForced(previous);
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)
+                && !HttpMethod.OPTIONS.matches(method);
+    }
+
+    private static boolean wroteRecently(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > now;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,84 @@
+package kr.penta.assignment.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * primary/replica 라우팅 설정 (board.datasource.routing.enabled=true 일 때만)
+ * <p>
+ * primary 풀은 spring.datasource 설정 그대로 만들고, replica 풀은 replica-urls 마다 하나씩 만든다. 풀은 빈으로 노출하지 않고
+ * 라우팅 DataSource 안에만 두어 DataSource 를 감싸는 후처리기가 한 번만 적용되게 한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.routing.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${board.datasource.routing.replica-urls:}") String replicaUrls,
+            @Value("${board.datasource.routing.replica-username:${spring.datasource.username:}}") String username,
+            @Value("${board.datasource.routing.replica-password:${spring.datasource.password:}}") String password,
+            @Value("${board.datasource.routing.replica-pool-size:10}") int poolSize,
+            @Value("${board.datasource.routing.lag-query:}") String lagQuery,
+            @Value("${board.datasource.routing.max-lag:PT5S}") Duration maxLag) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<String> urls = Arrays.stream(replicaUrls.split(",")).map(String::trim).filter(url -> !url.isEmpty())
+                .toList();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("board-replica-" + i);
+            replica.setJdbcUrl(urls.get(i));
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            // 죽은 replica 에서 오래 기다리지 않고 primary 로 넘어가도록 짧게 둔다
+            replica.setConnectionTimeout(1000);
+            // replica 가 내려가 있어도 애플리케이션은 primary 만으로 뜬다
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+
+        meterRegistry.ifAvailable(registry -> {
+            MicrometerMetricsTrackerFactory trackerFactory = new MicrometerMetricsTrackerFactory(registry);
+            primary.setMetricsTrackerFactory(trackerFactory);
+            replicas.forEach(replica -> replica.setMetricsTrackerFactory(trackerFactory));
+        });
+        return new ReplicaRoutingDataSource(primary, replicas, lagQuery, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${board.datasource.routing.read-your-writes-window:PT5S}") Duration window) {
+        return new ReadYourWritesFilter(window);
+    }
+}
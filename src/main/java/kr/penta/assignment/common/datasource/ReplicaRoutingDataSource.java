@@ -0,0 +1,184 @@
+package kr.penta.assignment.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 로 보내는 DataSource
+ * <p>
+ * 커넥션을 얻는 시점에 트랜잭션이 readOnly 이고 {@link DataSourceRoutingContext} 가 primary 를 요구하지 않으면 건강한
+ * replica 중 사용 중인 커넥션이 가장 적은 곳을 고른다. 동률이면 시작 위치를 매번 한 칸씩 옮겨 라운드 로빈으로 나눈다.
+ * <p>
+ * JPA 트랜잭션 매니저는 readOnly 표시를 올리기 전에 커넥션을 먼저 잡으므로, 이 DataSource 는 반드시
+ * LazyConnectionDataSourceProxy 뒤에 두어 첫 SQL 시점에 라우팅되도록 해야 한다.
+ * <p>
+ * replica 커넥션 획득이 실패하거나 주기적인 상태 검사(연결 확인과 선택적인 복제 지연 쿼리)에서 떨어진 replica 는 다시 통과할
+ * 때까지 후보에서 빠지고, 건강한 replica 가 없으면 primary 로 읽는다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, String lagQuery,
+            Duration maxLag) {
+        this.primary = primary;
+        List<Replica> candidates = new ArrayList<>(replicas.size());
+        for (HikariDataSource replica : replicas) {
+            candidates.add(new Replica(replica));
+        }
+        this.replicas = List.copyOf(candidates);
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(HikariDataSource::getConnection);
+    }
+
+    /**
+     * 계정을 지정한 커넥션도 같은 방식으로 primary 또는 replica 에 위임한다 (위임한 풀이 지원하지 않으면 그 예외를 그대로 던지고
+     * replica 를 후보에서 빼지 않는다).
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 모든 replica 의 상태를 검사한다
+     * <p>
+     * 연결 확인에 실패하거나 lag-query 결과(초)가 max-lag 을 넘으면 후보에서 빼고, 다시 통과하면 되돌린다.
+     */
+    @Scheduled(initialDelayString = "${board.datasource.routing.health-check-interval:PT5S}",
+            fixedDelayString = "${board.datasource.routing.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            String failure = probe(replica);
+            if (failure != null) {
+                markDown(replica, failure);
+            } else if (!replica.healthy) {
+                replica.healthy = true;
+                log.info("replica 복구 - pool: {}", replica.dataSource.getPoolName());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        Replica replica = routesToReplica() ? selectReplica() : null;
+        if (replica == null) {
+            return opener.open(primary);
+        }
+        try {
+            return opener.open(replica.dataSource);
+        } catch (SQLFeatureNotSupportedException e) {
+            throw e;
+        } catch (SQLException e) {
+            markDown(replica, e.getMessage());
+            return opener.open(primary);
+        }
+    }
+
+    private boolean routesToReplica() {
+        return !replicas.isEmpty()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !DataSourceRoutingContext.isPrimaryForced();
+    }
+
+    private Replica selectReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        Replica selected = null;
+        int selectedLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (!candidate.healthy) {
+                continue;
+            }
+            int load = candidate.activeConnections();
+            if (load < selectedLoad) {
+                selected = candidate;
+                selectedLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    private String probe(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return "연결 확인 실패";
+            }
+            if (lagQuery == null) {
+                return null;
+            }
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                double lagSeconds = resultSet.getDouble(1);
+                if (!resultSet.wasNull() && lagSeconds * 1000 > maxLagMillis) {
+                    return "복제 지연 " + lagSeconds + "s";
+                }
+                return null;
+            }
+        } catch (SQLException e) {
+            return e.getMessage();
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("replica 제외 - pool: {}, reason: {}", replica.dataSource.getPoolName(), reason);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+
+        Connection open(HikariDataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package kr.penta.assignment.common.id;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 게시글 ID 생성기 설정
+ * <p>
+ * Hibernate 의 {@link SnowflakeIdentifierGenerator} 와 같은 노드 번호의 공유 생성기를 빈으로 노출해 JDBC 로 직접 INSERT
+ * 하는 대량 등록, 샤드 저장소도 같은 순서로 ID 를 받게 한다.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${board.id.node-id:0}") long nodeId,
+            @Value("${board.id.max-clock-skew:PT5S}") Duration maxClockSkew) {
+        return SnowflakeIdGenerator.forNode(nodeId, maxClockSkew);
+    }
+}
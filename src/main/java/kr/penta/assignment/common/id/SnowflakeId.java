@@ -0,0 +1,19 @@
+package kr.penta.assignment.common.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 엔티티 ID 를 {@link SnowflakeIdGenerator} 로 INSERT 전에 만든다
+ * <p>
+ * IDENTITY 와 달리 ID 를 얻으려고 DB 에 다녀오지 않으므로 Hibernate 가 INSERT 를 JDBC 배치로 묶을 수 있다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+
+}
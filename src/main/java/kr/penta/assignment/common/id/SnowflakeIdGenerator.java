@@ -0,0 +1,111 @@
+package kr.penta.assignment.common.id;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순으로 정렬되는 64비트 ID 생성기 (timestamp 41비트 + node 10비트 + sequence 12비트)
+ * <p>
+ * DB 왕복 없이 프로세스 안에서 ID 를 만든다. 마지막으로 사용한 (timestamp, sequence) 를 하나의 AtomicLong 에 담아 CAS 로
+ * 갱신하므로 락 없이 단조 증가한다. 같은 밀리초에 sequence 가 다 차거나 시계가 뒤로 가면 마지막 timestamp 를 이어서 쓴다.
+ * <p>
+ * 마지막 timestamp 가 현재 시계보다 max-clock-skew 이상 앞서 있으면(NTP 보정 등으로 시계가 크게 뒤로 간 경우) 순서를
+ * 보장할 수 없으므로 ID 를 만들지 않고 예외를 던진다. 같은 노드에서 ID 가 겹치지 않도록 JVM 안에서는 노드 번호마다
+ * {@link #forNode} 로 얻은 인스턴스 하나를 함께 쓴다.
+ */
+public class SnowflakeIdGenerator {
+
+    /**
+     * timestamp 기준 시각 (2024-01-01T00:00:00Z), 여기서부터 약 69년 동안 사용할 수 있다
+     */
+    public static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    public static final Duration DEFAULT_MAX_CLOCK_SKEW = Duration.ofSeconds(5);
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final ConcurrentMap<Long, SnowflakeIdGenerator> SHARED = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final long nodeBits;
+    private final long maxClockSkewMillis;
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId, Duration maxClockSkew) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id 는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.maxClockSkewMillis = maxClockSkew.toMillis();
+    }
+
+    /**
+     * 노드 번호별로 JVM 안에서 공유하는 생성기 (먼저 만든 쪽의 max-clock-skew 가 적용된다)
+     *
+     * @param nodeId       노드 번호 (0 ~ 1023)
+     * @param maxClockSkew 허용하는 시계 역행 폭
+     * @return 공유 생성기
+     */
+    public static SnowflakeIdGenerator forNode(long nodeId, Duration maxClockSkew) {
+        return SHARED.computeIfAbsent(nodeId, id -> new SnowflakeIdGenerator(id, maxClockSkew));
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public long nextId() {
+        while (true) {
+            long last = state.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+            long now = currentTimestamp();
+            if (lastTimestamp - now > maxClockSkewMillis) {
+                throw new IllegalStateException("시계가 " + (lastTimestamp - now) + "ms 뒤로 가 ID 를 생성할 수 없습니다");
+            }
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if ((last & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = last + 1;
+            } else {
+                next = (lastTimestamp + 1) << SEQUENCE_BITS;
+            }
+            if (state.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return timestamp << (NODE_BITS + SEQUENCE_BITS) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * ID 에 담긴 생성 시각
+     *
+     * @param id 이 생성기가 만든 ID
+     * @return 생성 시각
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    /**
+     * 주어진 시각 이후에 만들어진 ID 의 하한 (기준 시각 이전이면 0)
+     *
+     * @param timestamp 시각
+     * @return 그 시각의 가장 작은 ID
+     */
+    public static long minIdAt(Instant timestamp) {
+        long millis = timestamp.toEpochMilli() - EPOCH_MILLIS;
+        return millis <= 0 ? 0 : millis << (NODE_BITS + SEQUENCE_BITS);
+    }
+
+    protected long currentTimestamp() {
+        return System.currentTimeMillis() - EPOCH_MILLIS;
+    }
+}
@@ -0,0 +1,44 @@
+package kr.penta.assignment.common.id;
+
+import java.time.Duration;
+import java.util.Map;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link SnowflakeId} 가 붙은 ID 를 만드는 Hibernate 생성기
+ * <p>
+ * Hibernate 가 직접 생성하는 객체라 스프링 빈을 주입받지 못하므로, 첫 호출 때 JPA 설정(spring.jpa.properties) 으로 전달된
+ * board.id.node-id, board.id.max-clock-skew 를 읽어 {@link SnowflakeIdGenerator#forNode} 의 공유 생성기를 쓴다. 그래서
+ * JDBC 로 직접 INSERT 하는 쪽과 같은 생성기를 공유해 ID 가 겹치지 않는다.
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "board.id.node-id";
+    public static final String MAX_CLOCK_SKEW_SETTING = "board.id.max-clock-skew";
+
+    private volatile SnowflakeIdGenerator generator;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        SnowflakeIdGenerator current = generator;
+        if (current == null) {
+            current = resolve(session);
+            generator = current;
+        }
+        return current.nextId();
+    }
+
+    private static SnowflakeIdGenerator resolve(SharedSessionContractImplementor session) {
+        Map<String, Object> settings = session.getFactory().getServiceRegistry()
+                .requireService(ConfigurationService.class).getSettings();
+        Object nodeId = settings.get(NODE_ID_SETTING);
+        Object maxClockSkew = settings.get(MAX_CLOCK_SKEW_SETTING);
+        return SnowflakeIdGenerator.forNode(
+                nodeId != null ? Long.parseLong(nodeId.toString()) : 0L,
+                maxClockSkew != null
+                        ? Duration.parse(maxClockSkew.toString())
+                        : SnowflakeIdGenerator.DEFAULT_MAX_CLOCK_SKEW);
+    }
+}
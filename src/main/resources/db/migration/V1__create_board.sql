@@ -0,0 +1,21 @@
+-- 게시글 테이블
+-- PostgreSQL 과 H2(MODE=PostgreSQL) 에서 모두 실행된다.
+CREATE TABLE BOARD
+(
+    ID         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    TITLE      VARCHAR(255) NOT NULL,
+    CONTENT    TEXT         NOT NULL,
+    AUTHOR     VARCHAR(50)  NOT NULL,
+    CREATED_AT TIMESTAMP(6) NOT NULL
+);
+
+COMMENT ON COLUMN BOARD.TITLE IS '게시글 제목';
+COMMENT ON COLUMN BOARD.CONTENT IS '게시글 내용';
+COMMENT ON COLUMN BOARD.AUTHOR IS '게시글 작성자';
+COMMENT ON COLUMN BOARD.CREATED_AT IS '게시글 작성 시간';
+
+-- 최신순 목록/커서 조회 (ORDER BY CREATED_AT DESC, ID DESC)
+CREATE INDEX IDX_BOARD_CREATED_AT_ID ON BOARD (CREATED_AT DESC, ID DESC);
+
+-- 작성자 조회
+CREATE INDEX IDX_BOARD_AUTHOR ON BOARD (AUTHOR);
@@ -0,0 +1,5 @@
+-- 작성자별 최신순 목록/커서 조회 (WHERE AUTHOR = ? ORDER BY CREATED_AT DESC, ID DESC)
+-- 작성자 단독 인덱스는 이 인덱스의 선두 컬럼으로 대체된다.
+CREATE INDEX IDX_BOARD_AUTHOR_CREATED_AT_ID ON BOARD (AUTHOR, CREATED_AT DESC, ID DESC);
+
+DROP INDEX IDX_BOARD_AUTHOR;
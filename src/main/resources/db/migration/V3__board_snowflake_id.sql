@@ -0,0 +1,5 @@
+-- 게시글 ID 를 애플리케이션의 시간순 ID 생성기(timestamp + node + sequence)로 만든다.
+-- 기존 IDENTITY 값은 새 ID 보다 항상 작으므로 ID 역순이 곧 작성 시간 역순으로 유지된다.
+ALTER TABLE BOARD ALTER COLUMN ID DROP IDENTITY;
+
+COMMENT ON COLUMN BOARD.ID IS '게시글 ID (timestamp + node + sequence)';
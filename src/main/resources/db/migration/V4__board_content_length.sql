@@ -0,0 +1,6 @@
+-- 본문 저장소로 옮긴 게시글 표시
+-- 값이 있으면 CONTENT 에는 앞부분만 있고 전체 본문(이 길이, UTF-16 문자 수)은 본문 저장소에 있다.
+-- 저장소에서 본문을 찾지 못하면 미리보기를 본문으로 내보내지 않고 오류로 처리한다.
+ALTER TABLE BOARD ADD COLUMN CONTENT_LENGTH INTEGER;
+
+COMMENT ON COLUMN BOARD.CONTENT_LENGTH IS '본문 저장소로 옮긴 전체 본문 길이 (옮기지 않았으면 NULL)';
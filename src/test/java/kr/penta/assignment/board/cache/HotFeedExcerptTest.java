@@ -0,0 +1,76 @@
+package kr.penta.assignment.board.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardMapper;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.shard.ShardedBoardStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+class HotFeedExcerptTest {
+
+    private static final int EXCERPT_LENGTH = 5;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    // 코드 포인트 8개, UTF-16 12자 (이모지는 서로게이트 쌍)
+    private static final String CONTENT = "😀가😀나😀다😀라";
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ObjectProvider<ShardedBoardStore> shardedBoardStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("서로게이트 쌍이 든 본문의 미리보기는 버퍼, DB 조회, 실시간 피드에서 모두 같다")
+    void excerpt_SurrogatePairs_SameFromHotFeedRepositoryAndMapper() {
+        // given: 1 은 DB 에서 적재, 2 는 생성 커밋 이벤트로 버퍼에 들어간다
+        HotFeed hotFeed = new HotFeed(boardRepository, shardedBoardStore, 10, EXCERPT_LENGTH);
+        insert(1L);
+        hotFeed.refresh();
+        insert(2L);
+        BoardResponse created = BoardResponse.builder()
+                .id(2L)
+                .title("제목 2")
+                .content(CONTENT)
+                .author("작성자")
+                .createdAt(CREATED_AT)
+                .build();
+        hotFeed.onBoardsCreated(BoardsCreatedEvent.of(created));
+
+        // when
+        List<BoardSummaryResponse> fromHotFeed = hotFeed.latest(0, 2).orElseThrow();
+        List<BoardSummaryResponse> fromRepository = boardRepository.findLatest(EXCERPT_LENGTH, PageRequest.ofSize(2));
+        BoardSummaryResponse fromMapper = BoardMapper.toSummary(created, EXCERPT_LENGTH);
+
+        // then
+        assertThat(fromMapper.excerpt()).isEqualTo("😀가😀나😀");
+        assertThat(fromRepository).extracting(BoardSummaryResponse::id).containsExactly(2L, 1L);
+        assertThat(fromRepository).extracting(BoardSummaryResponse::excerpt)
+                .containsExactly(fromMapper.excerpt(), fromMapper.excerpt());
+        assertThat(fromHotFeed).extracting(BoardSummaryResponse::id).containsExactly(2L, 1L);
+        assertThat(fromHotFeed).extracting(BoardSummaryResponse::excerpt)
+                .containsExactly(fromMapper.excerpt(), fromMapper.excerpt());
+    }
+
+    private void insert(long id) {
+        jdbcTemplate.update("INSERT INTO BOARD (ID, TITLE, CONTENT, AUTHOR, CREATED_AT) VALUES (?, ?, ?, ?, ?)",
+                id, "제목 " + id, CONTENT, "작성자", Timestamp.valueOf(CREATED_AT));
+    }
+}
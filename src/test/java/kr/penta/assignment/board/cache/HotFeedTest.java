@@ -0,0 +1,95 @@
+package kr.penta.assignment.board.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.shard.ShardedBoardStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class HotFeedTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0, 0, 123_456_000);
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private ObjectProvider<ShardedBoardStore> shardedBoardStore;
+
+    private HotFeed hotFeed;
+
+    @BeforeEach
+    void setUp() {
+        hotFeed = new HotFeed(boardRepository, shardedBoardStore, 3, 5);
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 게시글도 ID 순서 위치에 들어가고 작성 시각은 그대로 복원")
+    void onBoardsCreated_InsertsInIdOrder() {
+        // given
+        when(boardRepository.findLatest(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(summary(5L), summary(3L)));
+        hotFeed.refresh();
+
+        // when
+        hotFeed.onBoardsCreated(BoardsCreatedEvent.of(board(4L, "본문이 다섯 자보다 길다")));
+        Optional<List<BoardSummaryResponse>> rows = hotFeed.latest(0, 10);
+
+        // then
+        assertThat(rows).isPresent();
+        assertThat(rows.get()).extracting(BoardSummaryResponse::id).containsExactly(5L, 4L, 3L);
+        assertThat(rows.get().get(1).excerpt()).isEqualTo("본문이 다");
+        assertThat(rows.get().get(1).createdAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("버퍼가 넘친 뒤 버퍼 밖으로 나가는 요청은 빈 값으로 DB 조회에 넘긴다")
+    void latest_BeyondWindowAfterEviction_ReturnsEmpty() {
+        // given
+        when(boardRepository.findLatest(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(summary(5L), summary(4L), summary(3L)));
+        hotFeed.refresh();
+
+        // when
+        hotFeed.onBoardsCreated(BoardsCreatedEvent.of(board(6L, "본문")));
+
+        // then
+        assertThat(hotFeed.latest(0, 3).orElseThrow()).extracting(BoardSummaryResponse::id)
+                .containsExactly(6L, 5L, 4L);
+        assertThat(hotFeed.latestBefore(6L, 2).orElseThrow()).extracting(BoardSummaryResponse::id)
+                .containsExactly(5L, 4L);
+        assertThat(hotFeed.latest(0, 4)).isEmpty();
+        assertThat(hotFeed.latestBefore(5L, 2)).isEmpty();
+    }
+
+    private BoardSummaryResponse summary(Long id) {
+        return new BoardSummaryResponse(id, "제목" + id, "작성자", NOW.minusMinutes(10 - id), "본문");
+    }
+
+    private BoardResponse board(Long id, String content) {
+        return BoardResponse.builder()
+                .id(id)
+                .title("제목" + id)
+                .content(content)
+                .author("작성자")
+                .createdAt(NOW)
+                .build();
+    }
+}
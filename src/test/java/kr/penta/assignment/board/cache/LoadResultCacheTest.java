@@ -0,0 +1,77 @@
+package kr.penta.assignment.board.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoadResultCacheTest {
+
+    private final LoadResultCache cache = new LoadResultCache(true, 3, Duration.ofMinutes(1), 1_000_000L);
+
+    @Test
+    @DisplayName("같은 키에 대한 동시 미스는 한 번만 조회")
+    void get_ConcurrentMisses_LoadOnce() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<LoadResult>> futures = IntStream.range(0, 4)
+                .mapToObj(i -> executor.submit(() -> cache.get("infiniteStrategy", "page", 0, 10, () -> {
+                    loads.incrementAndGet();
+                    awaitQuietly(release);
+                    return LoadResult.builder().strategy("infinite").build();
+                })))
+                .toList();
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<LoadResult> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).getStrategy()).isEqualTo("infinite");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("무효화 이후에는 다시 조회")
+    void invalidateAll_ReloadsAfterwards() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("paginationStrategy", "page", 0, 10, () -> loadCounting(loads));
+
+        // when
+        cache.invalidateAll();
+        cache.get("paginationStrategy", "page", 0, 10, () -> loadCounting(loads));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.isCacheable(3)).isFalse();
+    }
+
+    private LoadResult loadCounting(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return LoadResult.builder().strategy("pagination").build();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package kr.penta.assignment.board.content;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentSegmentLogTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("다시 열면 세그먼트를 훑어 마지막 값과 삭제 표시를 복구")
+    void reopen_RecoversIndex() {
+        // given
+        try (ContentSegmentLog segmentLog = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+            segmentLog.put(1L, utf8("첫 번째"));
+            segmentLog.put(2L, utf8("두 번째"));
+            segmentLog.put(1L, utf8("첫 번째 (수정)"));
+            segmentLog.remove(2L);
+        }
+
+        // when
+        try (ContentSegmentLog reopened = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+
+            // then
+            assertThat(reopened.get(1L)).map(ContentSegmentLogTest::text).hasValue("첫 번째 (수정)");
+            assertThat(reopened.contains(2L)).isFalse();
+            assertThat(reopened.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("쓰다 만 꼬리 레코드는 체크섬으로 걸러내고 그 자리부터 이어 쓴다")
+    void reopen_DropsTornTail() throws IOException {
+        // given
+        try (ContentSegmentLog segmentLog = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+            segmentLog.put(1L, utf8("온전한 본문"));
+            segmentLog.put(2L, utf8("깨질 본문"));
+        }
+        int tornPayload = ContentSegmentLog.HEADER_SIZE + utf8("온전한 본문").remaining() + ContentSegmentLog.HEADER_SIZE;
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("0000000001.seg").toFile(), "rw")) {
+            file.seek(tornPayload);
+            file.write(0x7F);
+        }
+
+        // when
+        try (ContentSegmentLog recovered = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+            recovered.put(3L, utf8("복구 후 본문"));
+        }
+
+        // then
+        try (ContentSegmentLog reopened = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+            assertThat(reopened.get(1L)).map(ContentSegmentLogTest::text).hasValue("온전한 본문");
+            assertThat(reopened.contains(2L)).isFalse();
+            assertThat(reopened.get(3L)).map(ContentSegmentLogTest::text).hasValue("복구 후 본문");
+        }
+    }
+
+    @Test
+    @DisplayName("손상된 레코드 뒤에 온전한 레코드가 있으면 꼬리로 보고 지우지 않고 기동을 멈춘다")
+    void reopen_FailsOnCorruptionBeforeIntactRecord() throws IOException {
+        // given
+        try (ContentSegmentLog segmentLog = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+            segmentLog.put(1L, utf8("깨질 본문"));
+            segmentLog.put(2L, utf8("온전한 본문"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("0000000001.seg").toFile(), "rw")) {
+            file.seek(ContentSegmentLog.HEADER_SIZE);
+            file.write(0x7F);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> new ContentSegmentLog(directory, SEGMENT_SIZE, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("중간이 손상");
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("0000000001.seg").toFile(), "r")) {
+            file.seek(ContentSegmentLog.HEADER_SIZE + utf8("깨질 본문").remaining());
+            assertThat(file.readInt()).isNotZero();
+        }
+    }
+
+    @Test
+    @DisplayName("죽은 레코드가 많은 세그먼트는 살아 있는 레코드만 옮기고 지운다")
+    void compact_MovesLiveRecordsAndDeletesSegment() {
+        // given
+        String body = "가".repeat(33);
+        try (ContentSegmentLog segmentLog = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+            segmentLog.put(1L, utf8(body + "1"));
+            segmentLog.put(2L, utf8(body + "2"));
+            segmentLog.remove(1L);
+
+            // when
+            int compacted = segmentLog.compact(0.5);
+
+            // then
+            assertThat(compacted).isEqualTo(1);
+            assertThat(segmentLog.segmentCount()).isEqualTo(1);
+            assertThat(segmentLog.get(2L)).map(ContentSegmentLogTest::text).hasValue(body + "2");
+        }
+        try (ContentSegmentLog reopened = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+            assertThat(reopened.contains(1L)).isFalse();
+            assertThat(reopened.get(2L)).map(ContentSegmentLogTest::text).hasValue(body + "2");
+        }
+    }
+
+    @Test
+    @DisplayName("압축 시 더 새 레코드가 있는 키의 삭제 표시는 옮기지 않아 재기동 후에도 새 레코드가 남는다")
+    void compact_DropsTombstoneSupersededByNewerRecord() {
+        // given
+        try (ContentSegmentLog segmentLog = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+            segmentLog.put(1L, utf8("x".repeat(10)));
+            segmentLog.put(2L, utf8("x".repeat(200)));
+            segmentLog.remove(1L);
+            segmentLog.put(3L, utf8("x".repeat(200)));
+            segmentLog.put(1L, utf8("새 본문"));
+            segmentLog.remove(3L);
+
+            // when
+            int compacted = segmentLog.compact(0.5);
+
+            // then
+            assertThat(compacted).isEqualTo(1);
+        }
+        try (ContentSegmentLog reopened = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+            assertThat(reopened.get(1L)).map(ContentSegmentLogTest::text).hasValue("새 본문");
+            assertThat(reopened.get(2L)).isPresent();
+            assertThat(reopened.contains(3L)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("더 오래된 세그먼트에 본문이 없는 키의 삭제 표시는 압축 시 버린다")
+    void compact_DropsTombstoneWithoutOlderRecord() throws IOException {
+        // given
+        try (ContentSegmentLog segmentLog = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+            segmentLog.put(2L, utf8("x".repeat(230)));
+            segmentLog.put(1L, utf8("x".repeat(10)));
+            segmentLog.remove(1L);
+            segmentLog.put(3L, utf8("x".repeat(200)));
+
+            // when
+            int compacted = segmentLog.compact(0.5);
+
+            // then
+            assertThat(compacted).isEqualTo(1);
+            assertThat(segmentLog.segmentCount()).isEqualTo(2);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("0000000003.seg").toFile(), "r")) {
+            file.seek(ContentSegmentLog.HEADER_SIZE + 200);
+            assertThat(file.readInt()).isZero();
+        }
+        try (ContentSegmentLog reopened = new ContentSegmentLog(directory, SEGMENT_SIZE, true)) {
+            assertThat(reopened.contains(1L)).isFalse();
+            assertThat(reopened.size()).isEqualTo(2);
+        }
+    }
+
+    private static ByteBuffer utf8(String value) {
+        return StandardCharsets.UTF_8.encode(value);
+    }
+
+    private static String text(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+}
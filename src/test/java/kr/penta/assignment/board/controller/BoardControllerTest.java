@@ -2,21 +2,38 @@ package kr.penta.assignment.board.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import kr.penta.assignment.board.dto.BoardDto.BatchGetResult;
 import kr.penta.assignment.board.dto.BoardDto.BoardRequest;
 import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardDto.BulkInsertResult;
+import kr.penta.assignment.board.dto.BoardDto.BulkItemError;
 import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import kr.penta.assignment.board.exception.IngestionQueueFullException;
+import kr.penta.assignment.board.repository.BoardFilter;
+import kr.penta.assignment.board.service.BoardBulkService;
+import kr.penta.assignment.board.service.BoardExportService;
+import kr.penta.assignment.board.service.BoardIngestionService;
+import kr.penta.assignment.board.service.BoardSearchService;
 import kr.penta.assignment.board.service.BoardService;
+import kr.penta.assignment.board.stream.BoardFeedHub;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,27 +54,43 @@ class BoardControllerTest {
     @MockBean
     private BoardService boardService;
 
+    @MockBean
+    private BoardBulkService boardBulkService;
+
+    @MockBean
+    private BoardIngestionService boardIngestionService;
+
+    @MockBean
+    private BoardSearchService boardSearchService;
+
+    @MockBean
+    private BoardExportService boardExportService;
+
+    @MockBean
+    private BoardFeedHub boardFeedHub;
+
     @Test
     @DisplayName("게시글 목록 조회 API 테스트")
     void getBoards_Success() throws Exception {
         // given
-        BoardResponse boardResponse = BoardResponse.builder()
+        BoardSummaryResponse boardSummary = BoardSummaryResponse.builder()
                 .id(1L)
                 .title("테스트 제목")
-                .content("테스트 내용")
                 .author("테스트 작성자")
                 .createdAt(LocalDateTime.now())
+                .excerpt("테스트 내용")
                 .build();
 
         LoadResult loadResult = LoadResult.builder()
-                .boards(Arrays.asList(boardResponse))
+                .boards(Arrays.asList(boardSummary))
                 .hasNext(true)
                 .totalElements(1L)
                 .currentPage(0)
                 .strategy("infinite")
                 .build();
 
-        when(boardService.getBoards(anyString(), anyInt(), anyInt())).thenReturn(loadResult);
+        when(boardService.getListEtag()).thenReturn("W/\"L1.1\"");
+        when(boardService.getBoards(anyString(), any(BoardFilter.class), anyInt(), anyInt())).thenReturn(loadResult);
 
         // when & then
         mockMvc.perform(get("/api/boards")
@@ -67,7 +100,74 @@ class BoardControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.strategy").value("infinite"))
-                .andExpect(jsonPath("$.boards[0].title").value("테스트 제목"));
+                .andExpect(jsonPath("$.boards[0].id").value("1"))
+                .andExpect(jsonPath("$.boards[0].title").value("테스트 제목"))
+                .andExpect(jsonPath("$.boards[0].excerpt").value("테스트 내용"))
+                .andExpect(jsonPath("$.boards[0].content").doesNotExist())
+                .andExpect(header().string("ETag", "W/\"L1.1\""));
+    }
+
+    @Test
+    @DisplayName("ETag 가 일치하면 게시글을 조회하지 않고 304 반환")
+    void getBoardById_NotModified() throws Exception {
+        // given
+        when(boardService.getDetailEtag(1L)).thenReturn("W/\"B1\"");
+
+        // when & then
+        mockMvc.perform(get("/api/boards/1")
+                        .header("If-None-Match", "W/\"B1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"B1\""))
+                .andExpect(content().string(""));
+
+        verify(boardService, never()).getBoardById(anyLong());
+    }
+
+    @Test
+    @DisplayName("2^53 을 넘는 Snowflake ID 는 반올림되지 않도록 문자열로 응답")
+    void getBoardById_IdSerializedAsString() throws Exception {
+        // given
+        long id = 389548759876001793L;
+        when(boardService.getDetailEtag(id)).thenReturn("W/\"B1\"");
+        when(boardService.getBoardById(id)).thenReturn(BoardResponse.builder()
+                .id(id)
+                .title("제목")
+                .content("내용")
+                .author("작성자")
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        // when & then
+        mockMvc.perform(get("/api/boards/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").isString())
+                .andExpect(jsonPath("$.id").value("389548759876001793"));
+    }
+
+    @Test
+    @DisplayName("다건 조회 요청은 숫자와 문자열 ID 를 모두 받고, 응답의 ID 는 문자열")
+    void batchGetBoards_AcceptsNumberAndStringIds() throws Exception {
+        // given
+        long found = 389548759876001793L;
+        long missing = 389548759876001794L;
+        when(boardService.getBoardsByIds(List.of(found, missing))).thenReturn(BatchGetResult.builder()
+                .boards(List.of(BoardResponse.builder()
+                        .id(found)
+                        .title("제목")
+                        .content("내용")
+                        .author("작성자")
+                        .createdAt(LocalDateTime.now())
+                        .build()))
+                .missingIds(List.of(missing))
+                .build());
+
+        // when & then
+        mockMvc.perform(post("/api/boards/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[389548759876001793,\"389548759876001794\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.boards[0].id").value("389548759876001793"))
+                .andExpect(jsonPath("$.missingIds[0]").value("389548759876001794"));
     }
 
     @Test
@@ -100,6 +200,72 @@ class BoardControllerTest {
                 .andExpect(jsonPath("$.author").value("새 작성자"));
     }
 
+    @Test
+    @DisplayName("비동기 등록 모드에서 큐가 가득 차면 429 에러")
+    void createBoard_AsyncQueueFull_TooManyRequests() throws Exception {
+        // given
+        BoardRequest request = BoardRequest.builder()
+                .title("새 게시글")
+                .content("새 내용")
+                .author("새 작성자")
+                .build();
+
+        when(boardIngestionService.isEnabled()).thenReturn(true);
+        when(boardIngestionService.submit(any(BoardRequest.class)))
+                .thenThrow(new IngestionQueueFullException("게시글 등록 요청이 많습니다."));
+
+        // when & then
+        mockMvc.perform(post("/api/boards")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @Test
+    @DisplayName("Accept 가 와일드카드이면 CBOR/Smile 이 아닌 JSON 으로 응답")
+    void anyAccept_RespondsWithJson() throws Exception {
+        // given
+        when(boardService.getTotalBoardCount()).thenReturn(42L);
+        when(boardService.getDetailEtag(99L)).thenReturn("W/\"B99\"");
+        when(boardService.getBoardById(99L)).thenThrow(new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: 99"));
+
+        // when & then
+        mockMvc.perform(get("/api/boards/count")
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string("42"));
+        mockMvc.perform(get("/api/boards/99")
+                        .accept(MediaType.ALL))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    @DisplayName("NDJSON 대량 등록 API 테스트")
+    void bulkCreateBoards_Ndjson_Success() throws Exception {
+        // given
+        BulkInsertResult result = BulkInsertResult.builder()
+                .received(2)
+                .inserted(1)
+                .failed(1)
+                .errors(List.of(BulkItemError.builder().index(1).message("제목은 필수입니다").build()))
+                .build();
+
+        when(boardBulkService.insertNdjson(any(InputStream.class))).thenReturn(result);
+
+        // when & then
+        mockMvc.perform(post("/api/boards/bulk")
+                        .contentType("application/x-ndjson")
+                        .content("{\"title\":\"제목\",\"content\":\"내용\",\"author\":\"작성자\"}\n"
+                                + "{\"title\":\"\",\"content\":\"내용\",\"author\":\"작성자\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.errors[0].index").value(1));
+    }
+
     @Test
     @DisplayName("유효하지 않은 게시글 생성 요청 시 400 에러")
     void createBoard_InvalidRequest_BadRequest() throws Exception {
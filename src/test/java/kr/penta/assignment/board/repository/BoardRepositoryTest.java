@@ -0,0 +1,73 @@
+package kr.penta.assignment.board.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+class BoardRepositoryTest {
+
+    private static final LocalDateTime TIED = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 작성 시간이 같은 게시글 세 건과 앞뒤 게시글 (@CreationTimestamp 를 거치지 않도록 SQL 로 넣는다)
+        insert(5L, "작성자", TIED.plusSeconds(1));
+        insert(30L, "작성자", TIED);
+        insert(20L, "작성자", TIED);
+        insert(10L, "다른 작성자", TIED);
+        insert(40L, "작성자", TIED.minusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("작성 시간이 같은 게시글은 커서 (createdAt, id) 다음부터 ID 역순으로 이어진다")
+    void findLatestBefore_TiedCreatedAt_ContinuesById() {
+        // given
+        BoardFilter filter = new BoardFilter(null, TIED.minusDays(1), TIED.plusDays(1));
+
+        // when
+        List<BoardSummaryResponse> firstPage = boardRepository.findLatest(filter, 0, PageRequest.ofSize(2));
+        BoardSummaryResponse cursor = firstPage.get(firstPage.size() - 1);
+        List<BoardSummaryResponse> nextPage = boardRepository.findLatestBefore(filter, cursor.createdAt(),
+                cursor.id(), 0, PageRequest.ofSize(10));
+
+        // then
+        assertThat(firstPage).extracting(BoardSummaryResponse::id).containsExactly(5L, 30L);
+        assertThat(nextPage).extracting(BoardSummaryResponse::id).containsExactly(20L, 10L, 40L);
+    }
+
+    @Test
+    @DisplayName("작성자 조건의 커서 조회도 같은 작성 시간 안에서 ID 로 이어진다")
+    void findLatestBefore_TiedCreatedAtWithAuthor_ContinuesById() {
+        // given
+        BoardFilter filter = new BoardFilter("작성자", null, null);
+
+        // when
+        List<BoardSummaryResponse> nextPage = boardRepository.findLatestBefore(filter, TIED, 30L, 0,
+                PageRequest.ofSize(10));
+
+        // then
+        assertThat(nextPage).extracting(BoardSummaryResponse::id).containsExactly(20L, 40L);
+    }
+
+    private void insert(long id, String author, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO BOARD (ID, TITLE, CONTENT, AUTHOR, CREATED_AT) VALUES (?, ?, ?, ?, ?)",
+                id, "제목 " + id, "내용 " + id, author, Timestamp.valueOf(createdAt));
+    }
+}
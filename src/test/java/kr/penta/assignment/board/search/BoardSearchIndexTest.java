@@ -0,0 +1,55 @@
+package kr.penta.assignment.board.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import kr.penta.assignment.board.search.BoardSearchIndex.SearchResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BoardSearchIndexTest {
+
+    @Test
+    @DisplayName("한글은 음절 bigram, 그 밖의 단어는 소문자 단어로 분리")
+    void tokenize_KoreanBigramsAndWords() {
+        assertThat(BoardTokenizer.tokenize("게시글 Spring3"))
+                .containsExactly("게시", "시글", "spring3");
+    }
+
+    @Test
+    @DisplayName("모든 검색어를 포함하는 게시글만 제목 가중치를 반영해 순위대로 반환")
+    void search_RanksByFieldWeight() {
+        // given
+        BoardSearchIndex index = new BoardSearchIndex();
+        index.index(1L, "일반 글", "작성자1", "전략패턴 게시글 내용");
+        index.index(2L, "전략패턴 소개", "작성자2", "게시글 내용");
+        index.index(3L, "무관한 글", "작성자3", "다른 내용");
+
+        // when
+        SearchResult result = index.search("전략패턴 게시글", 0, 10);
+
+        // then
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.ids()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 저장하고 다시 읽으면 같은 결과를 반환")
+    void snapshot_RoundTrip(@TempDir Path dir) throws Exception {
+        // given
+        BoardSearchIndex index = new BoardSearchIndex();
+        index.index(1L, "샘플 게시글", "작성자", "무한스크롤 테스트");
+        Path snapshot = dir.resolve("search.idx");
+        index.writeSnapshot(snapshot);
+
+        // when
+        BoardSearchIndex restored = new BoardSearchIndex();
+        boolean loaded = restored.readSnapshot(snapshot);
+
+        // then
+        assertThat(loaded).isTrue();
+        assertThat(restored.getMaxIndexedId()).isEqualTo(1L);
+        assertThat(restored.search("무한스크롤", 0, 10).ids()).containsExactly(1L);
+    }
+}
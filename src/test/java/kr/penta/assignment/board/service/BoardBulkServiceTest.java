@@ -0,0 +1,82 @@
+package kr.penta.assignment.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.time.Duration;
+import java.util.List;
+import kr.penta.assignment.board.content.BoardContentStore;
+import kr.penta.assignment.board.dto.BoardDto.BoardRequest;
+import kr.penta.assignment.board.dto.BoardDto.BulkInsertResult;
+import kr.penta.assignment.board.dto.BoardDto.BulkItemError;
+import kr.penta.assignment.board.shard.ShardedBoardStore;
+import kr.penta.assignment.common.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class BoardBulkServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<ShardedBoardStore> shardedBoardStore;
+
+    @Mock
+    private ObjectProvider<BoardContentStore> boardContentStore;
+
+    @Test
+    @DisplayName("중간 청크 저장에 실패하면 그 청크 항목만 실패로 보고하고 앞뒤 청크의 등록 건수는 유지")
+    void insertAll_MiddleChunkFails_ReportsItsItems() {
+        // given: 청크 크기 2 → [0, 2] [3, 4] [5] (1 은 검증 실패)
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+                .thenReturn(new int[] {1, 1})
+                .thenThrow(new DataIntegrityViolationException("중복 키"))
+                .thenReturn(new int[] {1});
+        BoardBulkService bulkService = new BoardBulkService(jdbcTemplate, transactionManager,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), eventPublisher,
+                shardedBoardStore, new SnowflakeIdGenerator(1, Duration.ofSeconds(5)), boardContentStore, 2);
+
+        // when
+        BulkInsertResult result = bulkService.insertAll(List.of(request("제목 0"), request(""), request("제목 2"),
+                request("제목 3"), request("제목 4"), request("제목 5")));
+
+        // then
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        assertThat(result.getReceived()).isEqualTo(6);
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(BulkItemError::getIndex).containsExactly(1, 3, 4);
+        assertThat(result.getErrors().get(1).getMessage()).contains("다시 요청");
+    }
+
+    private static BoardRequest request(String title) {
+        return BoardRequest.builder()
+                .title(title)
+                .content("내용")
+                .author("작성자")
+                .build();
+    }
+}
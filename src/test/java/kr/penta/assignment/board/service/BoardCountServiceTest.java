@@ -0,0 +1,80 @@
+package kr.penta.assignment.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.shard.ShardedBoardStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class BoardCountServiceTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private ObjectProvider<ShardedBoardStore> shardedBoardStore;
+
+    private BoardCountService boardCountService;
+
+    @BeforeEach
+    void setUp() {
+        boardCountService = new BoardCountService(boardRepository, shardedBoardStore, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("최초 조회 시 한 번만 COUNT 로 기준값을 읽고 이후 생성분은 메모리에서 누적")
+    void getCount_SeedsOnceAndAccumulates() {
+        // given
+        when(boardRepository.count()).thenReturn(10L);
+
+        // when
+        long initial = boardCountService.getCount();
+        boardCountService.onBoardsCreated(new BoardsCreatedEvent(List.of(board(11L), board(12L))));
+        long afterCreate = boardCountService.getCount();
+
+        // then
+        assertThat(initial).isEqualTo(10L);
+        assertThat(afterCreate).isEqualTo(12L);
+        verify(boardRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("재동기화 시 DB 의 COUNT 값으로 보정")
+    void reconcile_CorrectsDrift() {
+        // given
+        when(boardRepository.count()).thenReturn(10L, 15L);
+        boardCountService.getCount();
+        boardCountService.onBoardsCreated(BoardsCreatedEvent.of(board(11L)));
+
+        // when
+        boardCountService.reconcile();
+
+        // then
+        assertThat(boardCountService.getCount()).isEqualTo(15L);
+    }
+
+    private BoardResponse board(Long id) {
+        return BoardResponse.builder()
+                .id(id)
+                .title("제목")
+                .content("내용")
+                .author("작성자")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package kr.penta.assignment.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import kr.penta.assignment.board.content.BoardContentStore;
+import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.service.BoardExportService.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DataJpaTest
+class BoardExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectProvider<BoardContentStore> boardContentStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private BoardExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new BoardExportService(boardRepository, entityManager, transactionManager, objectMapper,
+                boardContentStore);
+        insert(1L, "쉼표, 있는 제목", "작성자", "첫 줄\n둘째 줄");
+        insert(2L, "\"따옴표\" 제목", "작성자", "평범한 본문");
+        insert(3L, "평범한 제목", "작성자", "줄바꿈\r\n과 \"따옴표\", 쉼표");
+    }
+
+    @Test
+    @DisplayName("CSV 는 쉼표, 따옴표, 줄바꿈이 든 필드만 따옴표로 감싸고 안의 따옴표는 두 번 쓴다")
+    void export_Csv_QuotesAndEscapesFields() {
+        // when
+        String csv = export(ExportFormat.CSV, 0);
+
+        // then
+        assertThat(csv).isEqualTo("id,title,author,createdAt,content\n"
+                + "1,\"쉼표, 있는 제목\",작성자,2024-01-01T12:00,\"첫 줄\n둘째 줄\"\n"
+                + "2,\"\"\"따옴표\"\" 제목\",작성자,2024-01-01T12:00,평범한 본문\n"
+                + "3,평범한 제목,작성자,2024-01-01T12:00,\"줄바꿈\r\n과 \"\"따옴표\"\", 쉼표\"\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 한 줄에 게시글 하나이고 본문의 줄바꿈과 따옴표는 JSON 이스케이프된다")
+    void export_Ndjson_OneEscapedObjectPerLine() throws IOException {
+        // when
+        String ndjson = export(ExportFormat.NDJSON, 0);
+
+        // then
+        List<JsonNode> rows = parseLines(ndjson);
+        assertThat(ndjson).endsWith("\n");
+        assertThat(rows).extracting(row -> row.get("id").asLong()).containsExactly(1L, 2L, 3L);
+        assertThat(rows.get(0).get("content").asText()).isEqualTo("첫 줄\n둘째 줄");
+        assertThat(rows.get(1).get("title").asText()).isEqualTo("\"따옴표\" 제목");
+        assertThat(rows.get(2).get("content").asText()).isEqualTo("줄바꿈\r\n과 \"따옴표\", 쉼표");
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 ID 를 afterId 로 넘기면 그 다음 게시글부터 이어서 내보낸다")
+    void export_AfterId_ResumesAfterLastReceived() throws IOException {
+        // given
+        List<JsonNode> first = parseLines(export(ExportFormat.NDJSON, 0));
+        long lastReceived = first.get(1).get("id").asLong();
+
+        // when
+        List<JsonNode> resumed = parseLines(export(ExportFormat.NDJSON, lastReceived));
+
+        // then
+        assertThat(resumed).extracting(row -> row.get("id").asLong()).containsExactly(3L);
+        assertThat(export(ExportFormat.CSV, 3L)).isEqualTo("id,title,author,createdAt,content\n");
+    }
+
+    private String export(ExportFormat format, long afterId) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(out, format, afterId);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private List<JsonNode> parseLines(String ndjson) throws IOException {
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            if (!line.isEmpty()) {
+                rows.add(objectMapper.readTree(line));
+            }
+        }
+        return rows;
+    }
+
+    private void insert(long id, String title, String author, String content) {
+        jdbcTemplate.update("INSERT INTO BOARD (ID, TITLE, CONTENT, AUTHOR, CREATED_AT) VALUES (?, ?, ?, ?, ?)",
+                id, title, content, author, Timestamp.valueOf(CREATED_AT));
+    }
+}
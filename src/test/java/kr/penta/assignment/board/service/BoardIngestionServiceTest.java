@@ -0,0 +1,66 @@
+package kr.penta.assignment.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import kr.penta.assignment.board.dto.BoardDto.BoardRequest;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.IngestionStatus;
+import kr.penta.assignment.board.dto.BoardDto.IngestionStatusResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BoardIngestionServiceTest {
+
+    @Mock
+    private BoardBulkService boardBulkService;
+
+    @Test
+    @DisplayName("종료 제한 시간 안에 기록하지 못한 요청은 대기 상태로 남지 않고 실패로 표시")
+    void stop_DrainTimeout_FailsQueuedTickets() throws InterruptedException {
+        // given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(boardBulkService.insertChunk(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(BoardResponse.builder().id(1L).title("제목").content("내용").author("작성자")
+                    .createdAt(LocalDateTime.now()).build());
+        });
+        BoardIngestionService ingestionService = new BoardIngestionService(boardBulkService, true, 10, 1,
+                Duration.ofMinutes(1), Duration.ofMillis(100));
+        ingestionService.start();
+        String written = ingestionService.submit(request());
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        String queued = ingestionService.submit(request());
+
+        // when
+        ingestionService.stop();
+        release.countDown();
+
+        // then
+        IngestionStatusResponse queuedStatus = ingestionService.getStatus(queued, Duration.ZERO);
+        assertThat(queuedStatus.getStatus()).isEqualTo(IngestionStatus.FAILED);
+        assertThat(queuedStatus.getMessage()).contains("서버 종료");
+        assertThat(ingestionService.getStatus(written, Duration.ofSeconds(5)).getStatus())
+                .isEqualTo(IngestionStatus.COMPLETED);
+    }
+
+    private static BoardRequest request() {
+        return BoardRequest.builder()
+                .title("제목")
+                .content("내용")
+                .author("작성자")
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package kr.penta.assignment.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.penta.assignment.board.content.BoardContentStore;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.dto.BoardDto.LoadResult;
+import kr.penta.assignment.board.entity.Board;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.search.BoardSearchIndex;
+import kr.penta.assignment.common.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class BoardSearchServiceTest {
+
+    private static final Duration OVERLAP = Duration.ofMinutes(5);
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private ObjectProvider<BoardContentStore> boardContentStore;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("스냅샷 뒤에 커밋된 더 작은 ID 의 게시글도 겹쳐 읽어 색인하고, 이미 색인된 게시글은 다시 세지 않는다")
+    void bootstrap_CatchesUpLowerIdsCommittedAfterSnapshot() throws IOException {
+        // given
+        Instant snapshotAt = Instant.parse("2025-06-01T00:00:00Z");
+        long indexedId = SnowflakeIdGenerator.minIdAt(snapshotAt);
+        long lateId = SnowflakeIdGenerator.minIdAt(snapshotAt.minusSeconds(30));
+        Path snapshotPath = directory.resolve("search.idx");
+        BoardSearchIndex snapshot = new BoardSearchIndex();
+        snapshot.index(indexedId, "먼저 커밋된 글", "작성자", "본문");
+        snapshot.writeSnapshot(snapshotPath);
+        when(boardRepository.findAfterId(anyLong(), any()))
+                .thenReturn(List.of(board(lateId, "늦게 커밋된 글"), board(indexedId, "먼저 커밋된 글")));
+        when(boardRepository.findSummariesByIdIn(List.of(lateId), 100))
+                .thenReturn(List.of(new BoardSummaryResponse(lateId, "늦게 커밋된 글", "작성자", null, "본문")));
+        BoardSearchService searchService = new BoardSearchService(boardRepository, boardContentStore,
+                snapshotPath.toString(), 1000, 100, OVERLAP);
+
+        // when
+        searchService.bootstrap();
+
+        // then
+        verify(boardRepository).findAfterId(eq(SnowflakeIdGenerator.minIdAt(snapshotAt.minus(OVERLAP)) - 1), any());
+        LoadResult late = searchService.search("늦게", 0, 10);
+        assertThat(late.getBoards()).extracting(BoardSummaryResponse::id).containsExactly(lateId);
+        assertThat(searchService.search("먼저", 0, 10).getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("페이지 번호 × 크기가 int 범위를 넘는 마지막 페이지 이후 요청은 빈 페이지를 반환")
+    void search_PagePastEnd_ReturnsEmptyPage() {
+        // given
+        BoardSearchService searchService = new BoardSearchService(boardRepository, boardContentStore, "", 1000,
+                100, OVERLAP);
+        searchService.onBoardsCreated(BoardsCreatedEvent.of(BoardResponse.builder()
+                .id(1L)
+                .title("검색 대상 글")
+                .content("본문")
+                .author("작성자")
+                .createdAt(LocalDateTime.now())
+                .build()));
+
+        // when
+        LoadResult result = searchService.search("검색", 30_000_000, 100);
+
+        // then
+        assertThat(result.getBoards()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getCurrentPage()).isEqualTo(30_000_000);
+    }
+
+    private static Board board(long id, String title) {
+        return Board.builder()
+                .id(id)
+                .title(title)
+                .content("본문")
+                .author("작성자")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
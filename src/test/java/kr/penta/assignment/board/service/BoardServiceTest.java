@@ -3,17 +3,34 @@ package kr.penta.assignment.board.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import kr.penta.assignment.board.cache.BoardDetailCache;
+import kr.penta.assignment.board.cache.BoardWatermark;
+import kr.penta.assignment.board.content.BoardContentStore;
+import kr.penta.assignment.board.content.ContentSegmentLog;
+import kr.penta.assignment.board.dto.BoardDto.BatchGetResult;
 import kr.penta.assignment.board.dto.BoardDto.BoardRequest;
 import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
 import kr.penta.assignment.board.dto.BoardDto.LoadResult;
 import kr.penta.assignment.board.entity.Board;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import kr.penta.assignment.board.metrics.BoardMetrics;
 import kr.penta.assignment.board.repository.BoardRepository;
+import kr.penta.assignment.board.shard.ShardedBoardStore;
 import kr.penta.assignment.board.strategy.InfiniteScrollStrategy;
 import kr.penta.assignment.board.strategy.LoadStrategy;
 import kr.penta.assignment.board.strategy.PaginationStrategy;
@@ -21,9 +38,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class BoardServiceTest {
@@ -40,6 +61,29 @@ class BoardServiceTest {
     @Mock
     private PaginationStrategy paginationStrategy;
 
+    @Mock
+    private BoardCountService boardCountService;
+
+    @Mock
+    private BoardWatermark boardWatermark;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private BoardMetrics boardMetrics = new BoardMetrics(meterRegistry);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<ShardedBoardStore> shardedBoardStore;
+
+    @Mock
+    private ObjectProvider<BoardContentStore> boardContentStore;
+
+    @Spy
+    private BoardDetailCache boardDetailCache = new BoardDetailCache(1_000_000L, 100L, Duration.ofSeconds(30));
+
     @InjectMocks
     private BoardService boardService;
 
@@ -82,6 +126,11 @@ class BoardServiceTest {
         assertThat(result.getStrategy()).isEqualTo("infinite");
         verify(loadStrategies).get("infiniteStrategy");
         verify(infiniteScrollStrategy).loadBoards(boardRepository, 0, 10);
+        assertThat(meterRegistry.get("board.strategy.load")
+                .tag("strategy", "infinite")
+                .tag("mode", "page")
+                .timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("board.list.page.depth").summary().count()).isEqualTo(1L);
     }
 
     @Test
@@ -106,6 +155,26 @@ class BoardServiceTest {
         verify(paginationStrategy).loadBoards(boardRepository, 0, 10);
     }
 
+    @Test
+    @DisplayName("무한스크롤 전략으로 커서 기반 게시글 목록 조회 성공")
+    void getBoards_InfiniteStrategyWithCursor_Success() {
+        // given
+        when(loadStrategies.get("infiniteStrategy")).thenReturn(infiniteScrollStrategy);
+        LoadResult expectedResult = LoadResult.builder()
+                .strategy("infinite")
+                .hasNext(true)
+                .nextCursor("next")
+                .build();
+        when(infiniteScrollStrategy.loadBoards(boardRepository, "cursor", 10)).thenReturn(expectedResult);
+
+        // when
+        LoadResult result = boardService.getBoards("infinite", "cursor", 10);
+
+        // then
+        assertThat(result.getNextCursor()).isEqualTo("next");
+        verify(infiniteScrollStrategy).loadBoards(boardRepository, "cursor", 10);
+    }
+
     @Test
     @DisplayName("지원하지 않는 전략으로 조회 시 예외 발생")
     void getBoards_InvalidStrategy_ThrowsException() {
@@ -133,6 +202,21 @@ class BoardServiceTest {
         assertThat(response.getTitle()).isEqualTo("테스트 제목");
         assertThat(response.getAuthor()).isEqualTo("테스트 작성자");
         verify(boardRepository).save(any(Board.class));
+        verify(eventPublisher).publishEvent(any(BoardsCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("전체 게시글 수는 COUNT 쿼리 대신 카운트 서비스에서 조회")
+    void getTotalBoardCount_UsesCountService() {
+        // given
+        when(boardCountService.getCount()).thenReturn(42L);
+
+        // when
+        long count = boardService.getTotalBoardCount();
+
+        // then
+        assertThat(count).isEqualTo(42L);
+        verify(boardRepository, never()).count();
     }
 
     @Test
@@ -151,6 +235,36 @@ class BoardServiceTest {
         verify(boardRepository).findById(1L);
     }
 
+    @Test
+    @DisplayName("같은 게시글을 반복 조회하면 캐시에서 응답")
+    void getBoardById_CacheHit() {
+        // given
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(testBoard));
+
+        // when
+        boardService.getBoardById(1L);
+        BoardResponse response = boardService.getBoardById(1L);
+
+        // then
+        assertThat(response.getId()).isEqualTo(1L);
+        verify(boardRepository, times(1)).findById(1L);
+        assertThat(boardService.getDetailCacheStats().getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글 ID 반복 조회는 네거티브 캐시에서 응답")
+    void getBoardById_NotFound_NegativeCached() {
+        // given
+        when(boardRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> boardService.getBoardById(999L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> boardService.getBoardById(999L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(boardRepository, times(1)).findById(999L);
+    }
+
     @Test
     @DisplayName("존재하지 않는 게시글 ID로 조회 시 예외 발생")
     void getBoardById_NotFound_ThrowsException() {
@@ -162,4 +276,58 @@ class BoardServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("게시글을 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("여러 게시글 조회 시 요청 순서를 유지하고 캐시에 없는 ID 만 조회")
+    void getBoardsByIds_KeepsOrderAndReportsMissing() {
+        // given
+        Board otherBoard = Board.builder()
+                .id(3L)
+                .title("다른 제목")
+                .content("다른 내용")
+                .author("다른 작성자")
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(testBoard));
+        when(boardRepository.findAllById(anyIterable())).thenReturn(List.of(otherBoard));
+        boardService.getBoardById(1L);
+
+        // when
+        BatchGetResult result = boardService.getBoardsByIds(List.of(3L, 1L, 999L, 3L));
+
+        // then
+        assertThat(result.getBoards()).extracting(BoardResponse::getId).containsExactly(3L, 1L);
+        assertThat(result.getMissingIds()).containsExactly(999L);
+        verify(boardRepository, times(1)).findAllById(argThat(ids -> !((Collection<?>) ids).contains(1L)));
+    }
+
+    @Test
+    @DisplayName("본문 저장소로 옮긴 본문을 찾지 못하면 미리보기를 본문으로 내보내지 않고 실패")
+    void getBoardById_OffloadedContentMissing_ThrowsException(@TempDir Path directory) {
+        // given
+        Board offloaded = Board.builder()
+                .id(2L)
+                .title("긴 게시글")
+                .content("앞부분")
+                .contentLength(5000)
+                .author("테스트 작성자")
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(boardRepository.findById(2L)).thenReturn(Optional.of(offloaded));
+
+        // when & then
+        try (BoardContentStore contentStore = new BoardContentStore(
+                new ContentSegmentLog(directory, 4096, false), 100, 100, 0.5)) {
+            when(boardContentStore.getIfAvailable()).thenReturn(contentStore);
+            assertThatThrownBy(() -> boardService.getBoardById(2L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("본문 저장소에 게시글 본문이 없습니다");
+            assertThatThrownBy(() -> boardService.getBoardContent(2L))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+        when(boardContentStore.getIfAvailable()).thenReturn(null);
+        assertThatThrownBy(() -> boardService.getBoardById(2L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("본문 저장소가 꺼져 있습니다");
+    }
 }
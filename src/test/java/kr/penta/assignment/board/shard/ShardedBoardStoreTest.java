@@ -0,0 +1,98 @@
+package kr.penta.assignment.board.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import kr.penta.assignment.board.dto.BoardDto.BoardRequest;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.dto.BoardDto.BoardSummaryResponse;
+import kr.penta.assignment.board.repository.BoardFilter;
+import kr.penta.assignment.common.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+class ShardedBoardStoreTest {
+
+    private static final int SHARDS = 3;
+
+    private ShardedBoardStore store;
+
+    @BeforeEach
+    void setUp() {
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            HikariDataSource shard = new HikariDataSource();
+            shard.setJdbcUrl("jdbc:h2:mem:shard-test-" + i + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+            shard.setUsername("sa");
+            shards.add(shard);
+        }
+        store = new ShardedBoardStore(shards, new SnowflakeIdGenerator(1, Duration.ofSeconds(5)), 100);
+        store.migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("게시글은 ID 해시로 샤드에 나뉘고 ID 로 바로 조회된다")
+    void create_DistributesAndFindsById() {
+        // given
+        List<BoardResponse> created = store.createAll(requests(60));
+
+        // when
+        Map<Long, BoardResponse> found = store.findAllById(created.stream().map(BoardResponse::getId).toList());
+
+        // then
+        assertThat(store.count()).isEqualTo(60);
+        assertThat(found).hasSize(60);
+        assertThat(created.stream().map(board -> store.shardOf(board.getId())).distinct()).hasSize(SHARDS);
+        assertThat(store.findById(created.get(0).getId())).get()
+                .extracting(BoardResponse::getTitle).isEqualTo("제목 0");
+    }
+
+    @Test
+    @DisplayName("샤드별 최신순 결과를 병합한 페이지와 커서 조회가 전체 최신순과 같다")
+    void findLatest_MergesShardsInOrder() {
+        // given
+        store.createAll(requests(30));
+        List<BoardSummaryResponse> all = store.findLatest(0, PageRequest.of(0, 30));
+
+        // when
+        List<BoardSummaryResponse> secondPage = store.findLatest(20, PageRequest.of(1, 10));
+        BoardSummaryResponse cursor = all.get(9);
+        List<BoardSummaryResponse> afterCursor = store.findLatestBeforeId(cursor.id(), 0, PageRequest.ofSize(10));
+
+        // then
+        assertThat(all).hasSize(30).isSortedAccordingTo(LatestFirstMerge.NEWEST_ID_FIRST);
+        assertThat(secondPage).extracting(BoardSummaryResponse::id)
+                .isEqualTo(all.subList(10, 20).stream().map(BoardSummaryResponse::id).toList());
+        assertThat(afterCursor).extracting(BoardSummaryResponse::id)
+                .isEqualTo(all.subList(10, 20).stream().map(BoardSummaryResponse::id).toList());
+        assertThat(store.countMatching(new BoardFilter("작성자1", null, null))).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("max-page-window 를 넘는 페이지 번호 조회는 거절")
+    void findLatest_RejectsDeepPage() {
+        assertThatThrownBy(() -> store.findLatest(0, PageRequest.of(10, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<BoardRequest> requests(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new BoardRequest("제목 " + i, "내용 " + i, "작성자" + (i % 3)))
+                .toList();
+    }
+}
@@ -0,0 +1,200 @@
+package kr.penta.assignment.board.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import kr.penta.assignment.board.dto.BoardDto.BoardResponse;
+import kr.penta.assignment.board.event.BoardsCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class BoardFeedHubTest {
+
+    private static final Pattern FIRST_EVENT_ID = Pattern.compile("id:([0-9a-f]+)-1\n");
+
+    private BoardFeedHub feedHub;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // 전송을 호출한 스레드에서 바로 실행해 응답 본문을 곧바로 확인한다
+        feedHub = new BoardFeedHub(16, 8, Duration.ofMinutes(1), 100,
+                new ExecutorServiceAdapter(new SyncTaskExecutor()));
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(feedHub)).build();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 로 재연결하면 그 다음 이벤트부터 다시 받는다")
+    void subscribe_LastEventId_ReplaysMissedEvents() throws Exception {
+        // given
+        MockHttpServletResponse first = subscribe(null);
+        publish(1L, 2L, 3L);
+        String epoch = epochOf(first);
+
+        // when
+        MockHttpServletResponse resumed = subscribe(epoch + "-1");
+
+        // then
+        String body = contentOf(resumed);
+        assertThat(body).doesNotContain("id:" + epoch + "-1\n");
+        assertThat(body).contains("id:" + epoch + "-2\nevent:board\n", "id:" + epoch + "-3\nevent:board\n");
+        assertThat(body.indexOf("id:" + epoch + "-2\n")).isLessThan(body.indexOf("id:" + epoch + "-3\n"));
+        assertThat(body).doesNotContain("event:reset");
+    }
+
+    @Test
+    @DisplayName("다른 epoch 의 이벤트 ID 나 링 밖으로 밀려난 ID 로 재연결하면 reset 이벤트를 받는다")
+    void subscribe_UnknownOrExpiredLastEventId_SendsReset() throws Exception {
+        // given
+        MockHttpServletResponse first = subscribe(null);
+        publish(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        String epoch = epochOf(first);
+
+        // when
+        MockHttpServletResponse restarted = subscribe("0-1");
+        MockHttpServletResponse expired = subscribe(epoch + "-1");
+
+        // then
+        assertThat(contentOf(restarted)).contains("event:reset").doesNotContain("event:board");
+        assertThat(contentOf(expired)).contains("id:" + epoch + "-10\nevent:reset").doesNotContain("event:board");
+    }
+
+    @Test
+    @DisplayName("reset 이벤트 ID 는 구독 시점 기준이라 전송 전에 버퍼에 들어온 게시글 이벤트보다 앞선다")
+    void subscribe_PublishBeforeResetIsSent_ResetPrecedesQueuedEvents() throws Exception {
+        // given: 전송 작업을 쌓아 두었다가 직접 실행하는 허브
+        List<Runnable> tasks = new ArrayList<>();
+        BoardFeedHub queuedHub = new BoardFeedHub(16, 8, Duration.ofMinutes(1), 100,
+                new ExecutorServiceAdapter(tasks::add));
+        MockMvc queuedMockMvc = MockMvcBuilders.standaloneSetup(new StreamController(queuedHub)).build();
+        queuedHub.onBoardsCreated(event(1L, 2L, 3L));
+        MockHttpServletResponse resumed = subscribe(queuedMockMvc, "0-1");
+
+        // when: reset 을 보내기 전에 게시글 두 건이 버퍼에 들어온다
+        queuedHub.onBoardsCreated(event(4L, 5L));
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+
+        // then
+        String body = contentOf(resumed);
+        Matcher reset = Pattern.compile("id:([0-9a-f]+)-3\nevent:reset\n").matcher(body);
+        assertThat(reset.find()).isTrue();
+        String epoch = reset.group(1);
+        assertThat(body.indexOf("event:reset"))
+                .isLessThan(body.indexOf("id:" + epoch + "-4\nevent:board\n"));
+        assertThat(body.indexOf("id:" + epoch + "-4\nevent:board\n"))
+                .isLessThan(body.indexOf("id:" + epoch + "-5\nevent:board\n"));
+    }
+
+    @Test
+    @DisplayName("버퍼를 비우지 못한 느린 구독자는 버퍼가 가득 차면 연결이 끊기고 구독자 목록에서 빠진다")
+    void publish_SlowSubscriber_IsDropped() {
+        // given: 전송 작업이 실행되지 않아 버퍼가 비워지지 않는 구독자
+        BoardFeedHub stalledHub = new BoardFeedHub(16, 2, Duration.ofMinutes(1), 100,
+                new ExecutorServiceAdapter(task -> {
+                }));
+        stalledHub.subscribe(null);
+        stalledHub.onBoardsCreated(event(1L, 2L));
+        assertThat(stalledHub.getSubscriberCount()).isEqualTo(1);
+
+        // when
+        stalledHub.onBoardsCreated(event(3L));
+
+        // then
+        assertThat(stalledHub.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("하트비트는 구독자마다 SSE 주석으로 전송되고 연결은 유지된다")
+    void heartbeat_SendsCommentToEverySubscriber() throws Exception {
+        // given
+        MockHttpServletResponse first = subscribe(null);
+        MockHttpServletResponse second = subscribe(null);
+
+        // when
+        feedHub.heartbeat();
+
+        // then
+        assertThat(contentOf(first)).isEqualTo(":heartbeat\n\n");
+        assertThat(contentOf(second)).isEqualTo(":heartbeat\n\n");
+        assertThat(feedHub.getSubscriberCount()).isEqualTo(2);
+    }
+
+    private MockHttpServletResponse subscribe(String lastEventId) throws Exception {
+        return subscribe(mockMvc, lastEventId);
+    }
+
+    private static MockHttpServletResponse subscribe(MockMvc mockMvc, String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/stream");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private void publish(Long... ids) {
+        feedHub.onBoardsCreated(event(ids));
+    }
+
+    private static BoardsCreatedEvent event(Long... ids) {
+        return new BoardsCreatedEvent(Arrays.stream(ids)
+                .map(id -> BoardResponse.builder()
+                        .id(id)
+                        .title("제목 " + id)
+                        .content("내용 " + id)
+                        .author("작성자")
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .toList());
+    }
+
+    private static String epochOf(MockHttpServletResponse response) throws Exception {
+        Matcher matcher = FIRST_EVENT_ID.matcher(contentOf(response));
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+
+    private static String contentOf(MockHttpServletResponse response) throws Exception {
+        return response.getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final BoardFeedHub feedHub;
+
+        StreamController(BoardFeedHub feedHub) {
+            this.feedHub = feedHub;
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+            return feedHub.subscribe(lastEventId);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package kr.penta.assignment.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private HikariDataSource primary;
+
+    @Mock
+    private HikariDataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica), "", Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 그 외에는 primary 로 보낸다")
+    void getConnection_RoutesReadOnlyToReplica() throws SQLException {
+        // given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        // when
+        Connection write = dataSource.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection read = dataSource.getConnection();
+
+        // then
+        assertThat(write).isSameAs(primaryConnection);
+        assertThat(read).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("primary 고정 표식이 있으면 읽기 전용 트랜잭션도 primary 로 보낸다")
+    void getConnection_HonoursPrimaryForced() throws SQLException {
+        // given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Connection read = DataSourceRoutingContext.onPrimary(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // then
+        assertThat(read).isSameAs(primaryConnection);
+        assertThat(DataSourceRoutingContext.isPrimaryForced()).isFalse();
+    }
+
+    @Test
+    @DisplayName("replica 커넥션 획득에 실패하면 primary 로 대체하고 이후 요청에서 제외")
+    void getConnection_FailsOverToPrimary() throws SQLException {
+        // given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        // then
+        assertThat(first).isSameAs(primaryConnection);
+        assertThat(second).isSameAs(primaryConnection);
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("계정을 지정한 커넥션도 같은 방식으로 primary 또는 replica 에 위임")
+    void getConnectionWithCredentials_RoutesLikeGetConnection() throws SQLException {
+        // given
+        when(primary.getConnection("user", "secret")).thenReturn(primaryConnection);
+        when(replica.getConnection("user", "secret")).thenReturn(replicaConnection);
+
+        // when
+        Connection write = dataSource.getConnection("user", "secret");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection read = dataSource.getConnection("user", "secret");
+
+        // then
+        assertThat(write).isSameAs(primaryConnection);
+        assertThat(read).isSameAs(replicaConnection);
+    }
+}
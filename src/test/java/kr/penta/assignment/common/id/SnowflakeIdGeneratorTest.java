@@ -0,0 +1,64 @@
+package kr.penta.assignment.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("여러 스레드에서 만든 ID 는 겹치지 않고 노드 번호와 생성 시각을 담는다")
+    void nextId_UniqueAcrossThreads() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, Duration.ofSeconds(5));
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        long before = System.currentTimeMillis();
+
+        // when
+        IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(generator.nextId()));
+
+        // then
+        assertThat(ids).hasSize(100_000);
+        long id = ids.iterator().next();
+        assertThat((id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(7);
+        assertThat(SnowflakeIdGenerator.timestampOf(id).toEpochMilli()).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("시계가 허용 폭 안에서 뒤로 가면 마지막 시각을 이어 쓰고, 넘으면 생성을 거절")
+    void nextId_GuardsClockSkew() {
+        // given
+        ManualClockGenerator generator = new ManualClockGenerator(Duration.ofMillis(10));
+        generator.now = 1_000;
+        long first = generator.nextId();
+
+        // when
+        generator.now = 995;
+        long second = generator.nextId();
+        generator.now = 980;
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static class ManualClockGenerator extends SnowflakeIdGenerator {
+
+        private long now;
+
+        ManualClockGenerator(Duration maxClockSkew) {
+            super(1, maxClockSkew);
+        }
+
+        @Override
+        protected long currentTimestamp() {
+            return now;
+        }
+    }
+}